@@ -0,0 +1,57 @@
+package com.deungsanlog.gateway.config;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+
+@Configuration
+public class NotificationStreamRouteConfig {
+
+    /**
+     * 실시간 알림(SSE) 전용 라우트
+     * 장시간 열려 있는 스트림이므로 응답 타임아웃을 끄고, 설정 서버의 일반 라우트보다 먼저 매칭
+     * EventSource 가 보낸 ?token= 은 X-AUTH-TOKEN 헤더로 옮겨 전달 (notification-service 로그/URL 에 JWT 가 남지 않도록)
+     */
+    @Bean
+    public RouteLocator notificationStreamRoute(RouteLocatorBuilder builder) {
+        return builder.routes()
+                .route("notification-stream", r -> r
+                        .order(-1)
+                        .path("/notification-service/api/notifications/stream")
+                        .filters(f -> f.stripPrefix(1).filter(moveTokenToHeader()))
+                        .metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, -1)
+                        .uri("lb://notification-service"))
+                .build();
+    }
+
+    private GatewayFilter moveTokenToHeader() {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String token = request.getQueryParams().getFirst("token");
+            if (token == null) {
+                return chain.filter(exchange);
+            }
+
+            URI uri = UriComponentsBuilder.fromUri(request.getURI())
+                    .replaceQueryParam("token")
+                    .build(true)
+                    .toUri();
+            ServerHttpRequest mutated = request.mutate()
+                    .uri(uri)
+                    .headers(headers -> {
+                        if (!headers.containsKey("X-AUTH-TOKEN")) {
+                            headers.set("X-AUTH-TOKEN", token);
+                        }
+                    })
+                    .build();
+            return chain.filter(exchange.mutate().request(mutated).build());
+        };
+    }
+}
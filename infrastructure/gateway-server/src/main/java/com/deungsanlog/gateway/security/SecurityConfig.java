@@ -42,6 +42,8 @@ public class SecurityConfig {
 
                 // 경로별 인증 설정
                 .authorizeExchange(exchanges -> exchanges
+                        // 서비스 간 전용 경로(/{서비스}/internal/**)는 외부에서 호출 불가
+                        .pathMatchers("/*/internal/**").denyAll()
                         // 인증이 필요하지 않은 경로들 (GlobalGatewayFilter와 일치)
                         .pathMatchers("/auth/**").permitAll()                    // OAuth2 인증 관련
                         .pathMatchers("/actuator/**").permitAll()                // 헬스체크
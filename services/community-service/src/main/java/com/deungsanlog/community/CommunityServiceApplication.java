@@ -3,9 +3,11 @@ package com.deungsanlog.community;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients(basePackages = "com.deungsanlog.community.client")
+@EnableScheduling
 public class CommunityServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(CommunityServiceApplication.class, args);
@@ -1,5 +1,6 @@
 package com.deungsanlog.community.client;
 
+import com.deungsanlog.community.dto.BulkNotificationRequest;
 import com.deungsanlog.community.dto.NotificationRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -10,4 +11,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 public interface NotificationServiceClient {
     @PostMapping("/api/notifications/send")
     ResponseEntity<?> sendNotification(@RequestBody NotificationRequest request);
-}
\ No newline at end of file
+
+    @PostMapping("/api/notifications/bulk-send")
+    ResponseEntity<?> sendBulkNotification(@RequestBody BulkNotificationRequest request);
+}
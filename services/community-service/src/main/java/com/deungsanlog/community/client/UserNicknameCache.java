@@ -0,0 +1,81 @@
+package com.deungsanlog.community.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * user-service 닉네임 로컬 캐시
+ * - 목록 조회 시 캐시에 없는 사용자만 모아서 한 번에 일괄 조회
+ * - 최대 크기/TTL 제한, 닉네임 변경 시 user-service 가 evict 호출
+ */
+@Slf4j
+@Component
+public class UserNicknameCache {
+
+    private final UserClient userClient;
+    private final Cache<Long, String> cache;
+
+    public UserNicknameCache(UserClient userClient,
+                             @Value("${community.nickname-cache.max-size:10000}") long maxSize,
+                             @Value("${community.nickname-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.userClient = userClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 단일 닉네임 조회 (캐시 미스 시 단건 API 호출)
+     */
+    public String getNickname(Long userId) {
+        return cache.get(userId, userClient::getNickname);
+    }
+
+    /**
+     * 여러 사용자 닉네임 일괄 조회 (캐시 미스가 있을 때만 원격 호출 1회)
+     * 조회 실패 시 캐시에 있던 닉네임만 반환
+     */
+    public Map<Long, String> getNicknames(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return cache.getAll(ids, this::fetchNicknames);
+        } catch (Exception e) {
+            log.error("❌ 닉네임 일괄 조회 실패: count={}, error={}", ids.size(), e.getMessage());
+            return cache.getAllPresent(ids);
+        }
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        log.info("닉네임 캐시 무효화: userId={}", userId);
+    }
+
+    private Map<Long, String> fetchNicknames(Set<? extends Long> missingIds) {
+        Map<Long, String> fetched = new HashMap<>();
+        userClient.getNicknames(Set.copyOf(missingIds)).forEach((id, nickname) -> {
+            if (nickname != null) {
+                fetched.put(id, nickname);
+            }
+        });
+        return fetched;
+    }
+}
@@ -0,0 +1,33 @@
+package com.deungsanlog.community.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ImageVariantExecutorConfig {
+
+    /**
+     * 이미지 축소본 생성용 스레드 풀 (CPU 작업이라 스레드 수는 적게)
+     * 큐가 차면 거절 (TaskRejectedException) - 요청 스레드에서 디코딩하지 않고
+     * ImageVariantGenerator 가 미뤄 두었다가 다시 예약함 (그동안 목록은 원본 URL 사용)
+     */
+    @Bean(name = "imageVariantExecutor")
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${community.image-variant.threads:2}") int threads,
+            @Value("${community.image-variant.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,21 +1,30 @@
 package com.deungsanlog.community.controller;
 
 import com.deungsanlog.community.dto.CommunityPostCreateRequest;
+import com.deungsanlog.community.dto.CommunityPostCursorPage;
 import com.deungsanlog.community.dto.CommunityPostResponse;
 import com.deungsanlog.community.dto.CommunityPostUpdateRequest;
 import com.deungsanlog.community.repository.CommunityPostLikeRepository;
 import com.deungsanlog.community.service.CommunityPostService;
+import com.deungsanlog.community.service.ImageCodec;
+import com.deungsanlog.community.service.ImageVariantGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -28,21 +37,67 @@ public class CommunityController {
 
     private final CommunityPostService communityPostService;
     private final CommunityPostLikeRepository communityPostLikeRepository;
+    private final ObjectMapper objectMapper;
+    private final ImageVariantGenerator imageVariantGenerator;
 
     @Value("${community.upload-path}")
     private String uploadDir;
 
+    // 전체 게시글 일괄 조회(GET /posts) 호환 플래그 - 기본 비활성화, /posts/cursor 또는 /posts/stream 사용
+    @Value("${community.posts.legacy-list-enabled:false}")
+    private boolean legacyListEnabled;
+
     @GetMapping("/status")
     public Map<String, String> status() {
         return Map.of("message", "community-service is up!");
     }
 
     @GetMapping("/posts")
-    public ResponseEntity<List<CommunityPostResponse>> getAllPosts() {
+    public ResponseEntity<?> getAllPosts() {
+        if (!legacyListEnabled) {
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(Map.of("error", "전체 게시글 조회는 지원하지 않습니다. /api/communities/posts/cursor 를 사용하세요."));
+        }
         List<CommunityPostResponse> posts = communityPostService.getAllPosts();
         return ResponseEntity.ok(posts);
     }
 
+    // 커서 기반 게시글 목록 (최신순) - 잘못된 커서는 400
+    @GetMapping("/posts/cursor")
+    public ResponseEntity<?> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            return ResponseEntity.ok(communityPostService.getPostsByCursor(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 전체 게시글 NDJSON 스트리밍 - 커서 페이지 단위로 조회/전송하여 메모리 사용량 일정 유지
+    @GetMapping(value = "/posts/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPosts(
+            @RequestParam(defaultValue = "100") int chunkSize
+    ) {
+        StreamingResponseBody body = out -> {
+            String cursor = null;
+            do {
+                CommunityPostCursorPage page = communityPostService.getPostsByCursor(cursor, chunkSize);
+                for (CommunityPostResponse post : page.getPosts()) {
+                    out.write(objectMapper.writeValueAsBytes(post));
+                    out.write('\n');
+                }
+                out.flush();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     // 게시글 작성
     @PostMapping("/posts")
     public CommunityPostResponse createPost(@RequestBody CommunityPostCreateRequest request) {
@@ -60,8 +115,17 @@ public class CommunityController {
                 Path filePath = Paths.get(uploadDir, filename);
                 try {
                     Files.createDirectories(Paths.get(uploadDir));
-                    Files.copy(file.getInputStream(), filePath);
+                    // 원본도 그대로 서빙되므로 EXIF(위치 정보 등)를 걷어낸 사본만 저장
+                    try (InputStream in = file.getInputStream();
+                         OutputStream out = Files.newOutputStream(filePath, StandardOpenOption.CREATE_NEW)) {
+                        ImageCodec.stripMetadata(in, out);
+                    } catch (IOException e) {
+                        Files.deleteIfExists(filePath);
+                        throw e;
+                    }
                     fileUrls.add("/community-service/uploads/" + filename);
+                    // 썸네일/반응형 축소본은 비동기 생성
+                    imageVariantGenerator.generateAsync(filename);
                 } catch (IOException e) {
                     e.printStackTrace();
                     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
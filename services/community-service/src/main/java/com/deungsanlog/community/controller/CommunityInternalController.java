@@ -0,0 +1,23 @@
+package com.deungsanlog.community.controller;
+
+import com.deungsanlog.community.client.UserNicknameCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 서비스 간 호출 전용 API (게이트웨이에서 /{서비스}/internal/** 은 차단)
+ */
+@RestController
+@RequestMapping("/internal/communities")
+@RequiredArgsConstructor
+public class CommunityInternalController {
+    private final UserNicknameCache userNicknameCache;
+
+    // 닉네임 캐시 무효화 (User Service에서 닉네임 변경 시 호출)
+    @DeleteMapping("/users/{userId}/nickname-cache")
+    public ResponseEntity<Void> evictNicknameCache(@PathVariable Long userId) {
+        userNicknameCache.evict(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.deungsanlog.community.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 outbox - 좋아요/댓글과 같은 트랜잭션에 저장되고 NotificationOutboxRelay 가 비동기로 전송
+ */
+@Entity
+@Table(name = "community_notification_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_status_created", columnList = "status, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient_user_id", nullable = false)
+    private Long recipientUserId;   // 알림 받을 사용자 (게시글 작성자)
+
+    @Column(name = "actor_user_id", nullable = false)
+    private Long actorUserId;       // 좋아요/댓글 작성자 (닉네임은 전송 시점에 조회)
+
+    @Column(name = "type", length = 20, nullable = false)
+    private String type;            // "like", "comment"
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "post_title")
+    private String postTitle;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.deungsanlog.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkNotificationRequest {
+    private List<Long> userIds; // 받을 사용자 ID 목록
+    private String type;        // "comment", "like"
+    private String content;     // 알림 내용
+    private String title;       // 알림 제목 (선택사항)
+    private List<String> dedupeKeys; // userIds 와 같은 순서의 중복 저장 방지 키 (선택사항)
+}
@@ -0,0 +1,18 @@
+package com.deungsanlog.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommunityPostCursorPage {
+    private List<CommunityPostResponse> posts;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
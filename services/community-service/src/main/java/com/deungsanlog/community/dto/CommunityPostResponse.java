@@ -24,4 +24,6 @@ public class CommunityPostResponse {
     private String createdAt;
     private String updatedAt;
     private List<String> imageUrls;
+    // imageUrls 와 같은 순서의 축소본 URL (생성 전이면 항목이 null → 원본 사용)
+    private List<ImageVariantUrls> imageVariants;
 }
@@ -2,11 +2,18 @@ package com.deungsanlog.community.repository;
 
 import com.deungsanlog.community.domain.CommunityPostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommunityPostImageRepository extends JpaRepository<CommunityPostImage, Long> {
     List<CommunityPostImage> findAllByPostId(Long postId);
+
+    // 여러 게시글의 이미지를 한 번에 조회 (게시글별로 묶이도록 postId, sortOrder 순 정렬)
+    @Query("SELECT i FROM CommunityPostImage i WHERE i.post.id IN :postIds ORDER BY i.post.id, i.sortOrder, i.id")
+    List<CommunityPostImage> findAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -2,9 +2,17 @@ package com.deungsanlog.community.repository;
 
 import com.deungsanlog.community.domain.CommunityPostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CommunityPostLikeRepository extends JpaRepository<CommunityPostLike, Long> {
     boolean existsByPostIdAndUserId(Long postId, Long userId);
 
-    void deleteByPostIdAndUserId(Long postId, Long userId);
-}
\ No newline at end of file
+    // 조회 없이 바로 삭제, 삭제된 행 수 반환 (0 이면 좋아요 안 한 상태)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CommunityPostLike l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -42,4 +43,16 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
     Page<CommunityPost> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String titleKeyword, String contentKeyword, Pageable pageable);
 
     Page<CommunityPost> findByUserId(Long userId, Pageable pageable);
+
+    // 커서(keyset) 페이지네이션 - 첫 페이지
+    @Query("SELECT p FROM CommunityPost p ORDER BY p.createdAt DESC, p.id DESC")
+    List<CommunityPost> findFirstPage(Pageable pageable);
+
+    // 커서(keyset) 페이지네이션 - (createdAt, id) 커서 이후 페이지, OFFSET 없이 인덱스 범위 스캔
+    @Query("SELECT p FROM CommunityPost p " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<CommunityPost> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.deungsanlog.community.repository;
+
+import com.deungsanlog.community.domain.NotificationOutbox;
+import com.deungsanlog.community.domain.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 전송할 알림 선점 - 여러 인스턴스가 같은 행을 중복 전송하지 않도록 SKIP LOCKED
+    @Query(value = """
+            SELECT * FROM community_notification_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutbox> lockPendingBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(o.createdAt) FROM NotificationOutbox o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
+
+    // 보관 기간이 지난 전송 완료/최종 실패 행 삭제 (한 번에 limit 건씩)
+    @Modifying
+    @Query(value = """
+            DELETE FROM community_notification_outbox
+            WHERE status = :status AND created_at < :before
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteOlderThan(@Param("status") String status, @Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,339 @@
+package com.deungsanlog.community.scheduler;
+
+import com.deungsanlog.community.client.NotificationServiceClient;
+import com.deungsanlog.community.client.UserNicknameCache;
+import com.deungsanlog.community.domain.NotificationOutbox;
+import com.deungsanlog.community.domain.OutboxStatus;
+import com.deungsanlog.community.dto.BulkNotificationRequest;
+import com.deungsanlog.community.repository.NotificationOutboxRepository;
+import com.deungsanlog.community.service.NotificationOutboxService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 outbox 릴레이
+ * - PENDING 행을 배치로 선점(FOR UPDATE SKIP LOCKED)하고 next_attempt_at 을 claim-lease 만큼 미룬 뒤 바로 커밋
+ *   → 닉네임 조회/bulk-send 원격 호출 중에는 트랜잭션과 DB 커넥션을 잡지 않음
+ * - 같은 내용끼리 묶어 /api/notifications/bulk-send 로 전송, 결과(SENT/재시도)는 두 번째 짧은 트랜잭션에서 기록
+ *   (선점 후 lease 가 지나 다른 인스턴스가 다시 가져간 행은 건드리지 않음)
+ * - 행마다 중복 방지 키(community-outbox:{id})를 함께 보내 응답 유실 후 재시도해도 알림이 두 번 저장/푸시되지 않음
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수 초과 시 FAILED
+ *   (bulk-send 가 일부 배치 저장 실패를 failedUserIds 로 알려주면 해당 수신자 행만 재시도)
+ * - 보관 기간이 지난 SENT/FAILED 행은 매일 배치 삭제
+ * - outbox 적재량/지연은 Micrometer 게이지로 노출
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationServiceClient notificationServiceClient;
+    private final UserNicknameCache userNicknameCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final AtomicLong relayLagSeconds = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    @Value("${community.notification-outbox.batch-size:200}")
+    private int batchSize;
+
+    // 선점한 행을 다른 인스턴스가 가져가지 않는 시간 (닉네임 조회 + bulk-send 제한시간보다 길게)
+    @Value("${community.notification-outbox.claim-lease-ms:120000}")
+    private long claimLeaseMs;
+
+    @Value("${community.notification-outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${community.notification-outbox.base-backoff-ms:2000}")
+    private long baseBackoffMs;
+
+    @Value("${community.notification-outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Value("${community.notification-outbox.sent-retention-days:7}")
+    private int sentRetentionDays;
+
+    @Value("${community.notification-outbox.failed-retention-days:30}")
+    private int failedRetentionDays;
+
+    @Value("${community.notification-outbox.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository outboxRepository,
+                                   NotificationServiceClient notificationServiceClient,
+                                   UserNicknameCache userNicknameCache,
+                                   TransactionTemplate transactionTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.notificationServiceClient = notificationServiceClient;
+        this.userNicknameCache = userNicknameCache;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("community.notification.outbox.depth", pendingDepth, AtomicLong::get)
+                .description("전송 대기 중인 알림 outbox 행 수")
+                .register(meterRegistry);
+        Gauge.builder("community.notification.outbox.lag.seconds", relayLagSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 알림의 경과 시간(초)")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("community.notification.outbox.sent");
+        this.retryCounter = meterRegistry.counter("community.notification.outbox.retried");
+        this.failedCounter = meterRegistry.counter("community.notification.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${community.notification-outbox.relay-interval-ms:1000}")
+    public void relay() {
+        try {
+            // 한 배치가 가득 차면 밀린 행이 있다는 뜻이므로 바로 다음 배치 처리
+            int claimed;
+            do {
+                LocalDateTime leaseUntil = LocalDateTime.now().plus(Duration.ofMillis(claimLeaseMs))
+                        .truncatedTo(ChronoUnit.MILLIS);
+                List<NotificationOutbox> batch = transactionTemplate.execute(status -> claimBatch(leaseUntil));
+                claimed = batch == null ? 0 : batch.size();
+                if (claimed > 0) {
+                    relayBatch(batch, leaseUntil);
+                }
+            } while (claimed >= batchSize);
+        } catch (Exception e) {
+            log.error("❌ 알림 outbox 릴레이 실패: {}", e.getMessage());
+        } finally {
+            refreshMetrics();
+        }
+    }
+
+    /**
+     * 1) 짧은 트랜잭션: 전송할 행 선점 후 next_attempt_at 을 leaseUntil 로 미룸 (커밋하면 행 잠금 해제)
+     */
+    private List<NotificationOutbox> claimBatch(LocalDateTime leaseUntil) {
+        List<NotificationOutbox> batch = outboxRepository.lockPendingBatch(LocalDateTime.now(), batchSize);
+        batch.forEach(row -> row.setNextAttemptAt(leaseUntil));
+        return batch;
+    }
+
+    /**
+     * 2) 트랜잭션 없이 원격 호출 → 3) 짧은 트랜잭션으로 결과 기록
+     */
+    private void relayBatch(List<NotificationOutbox> batch, LocalDateTime leaseUntil) {
+        Map<Long, String> errors = new HashMap<>(); // 재시도할 행 id → 오류 (없는 행은 전송 완료)
+
+        Map<Long, String> nicknames;
+        try {
+            nicknames = userNicknameCache.getNicknames(
+                    batch.stream().map(NotificationOutbox::getActorUserId).distinct().toList());
+        } catch (Exception e) {
+            log.warn("⚠️ 알림 outbox 닉네임 조회 실패: {}", e.getMessage());
+            nicknames = Map.of();
+        }
+
+        // 같은 (type, content) 끼리 묶어 한 번의 bulk-send 로 전송
+        Map<List<String>, List<NotificationOutbox>> groups = new LinkedHashMap<>();
+        for (NotificationOutbox row : batch) {
+            String content = renderContent(row, nicknames.get(row.getActorUserId()));
+            if (content == null) {
+                // 닉네임 조회 불가 (user-service 장애 등) → 다음 주기에 재시도
+                errors.put(row.getId(), "닉네임 조회 실패");
+                continue;
+            }
+            groups.computeIfAbsent(List.of(row.getType(), content), key -> new ArrayList<>()).add(row);
+        }
+        groups.forEach((key, rows) -> send(key.get(0), key.get(1), rows, errors));
+
+        record(batch, leaseUntil, errors);
+    }
+
+    private void send(String type, String content, List<NotificationOutbox> rows, Map<Long, String> errors) {
+        // 저장에 실패한 수신자 (null 이면 어느 수신자가 실패했는지 모름 → 전부 재시도)
+        Set<Long> failedUserIds;
+        String error;
+        try {
+            ResponseEntity<?> response = notificationServiceClient.sendBulkNotification(BulkNotificationRequest.builder()
+                    .userIds(rows.stream().map(NotificationOutbox::getRecipientUserId).toList())
+                    .dedupeKeys(rows.stream().map(NotificationOutboxRelay::dedupeKey).toList())
+                    .type(type)
+                    .title(titleOf(type))
+                    .content(content)
+                    .build());
+            boolean success = response.getStatusCode().is2xxSuccessful();
+            failedUserIds = success ? Set.of() : null;
+            error = success ? null : "응답코드 " + response.getStatusCode();
+        } catch (FeignException e) {
+            failedUserIds = failedUserIdsOf(e);
+            error = e.getMessage();
+        } catch (Exception e) {
+            failedUserIds = null;
+            error = e.getMessage();
+        }
+
+        int retried = 0;
+        for (NotificationOutbox row : rows) {
+            if (failedUserIds == null || failedUserIds.contains(row.getRecipientUserId())) {
+                errors.put(row.getId(), error);
+                retried++;
+            }
+        }
+
+        if (retried == 0) {
+            log.info("✅ 알림 outbox 전송 완료: type={}, count={}", type, rows.size());
+        } else {
+            log.warn("⚠️ 알림 outbox 전송 실패: type={}, count={}, 재시도 {}건, error={}",
+                    type, rows.size(), retried, error);
+        }
+    }
+
+    /**
+     * 전송 결과 기록 - 아직 이번 선점(leaseUntil) 상태인 행만 SENT/재시도로 변경
+     */
+    private void record(List<NotificationOutbox> batch, LocalDateTime leaseUntil, Map<Long, String> errors) {
+        Integer sent = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int count = 0;
+            for (NotificationOutbox row : outboxRepository.findAllById(
+                    batch.stream().map(NotificationOutbox::getId).toList())) {
+                if (row.getStatus() != OutboxStatus.PENDING || !leaseUntil.equals(row.getNextAttemptAt())) {
+                    log.warn("⚠️ 알림 outbox 선점 만료 - 결과 기록 생략: id={}", row.getId());
+                    continue;
+                }
+                if (errors.containsKey(row.getId())) {
+                    scheduleRetry(row, errors.get(row.getId()));
+                } else {
+                    row.setStatus(OutboxStatus.SENT);
+                    row.setSentAt(now);
+                    row.setLastError(null);
+                    count++;
+                }
+            }
+            return count;
+        });
+        sentCounter.increment(sent == null ? 0 : sent);
+    }
+
+    // notification-service 중복 저장 방지 키 (행마다 고유, 재시도해도 같음)
+    private static String dedupeKey(NotificationOutbox row) {
+        return "community-outbox:" + row.getId();
+    }
+
+    /**
+     * bulk-send 실패 응답 본문의 failedUserIds (일부 배치 저장 실패), 없거나 읽을 수 없으면 null
+     */
+    private Set<Long> failedUserIdsOf(FeignException e) {
+        try {
+            String body = e.contentUTF8();
+            if (body == null || body.isBlank()) {
+                return null;
+            }
+            JsonNode ids = objectMapper.readTree(body).path("failedUserIds");
+            if (!ids.isArray()) {
+                return null;
+            }
+            Set<Long> failed = new HashSet<>();
+            ids.forEach(id -> failed.add(id.asLong()));
+            return failed;
+        } catch (Exception parseError) {
+            return null;
+        }
+    }
+
+    private void scheduleRetry(NotificationOutbox row, String error) {
+        int attempts = row.getAttempts() + 1;
+        row.setAttempts(attempts);
+        row.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+
+        if (attempts >= maxAttempts) {
+            row.setStatus(OutboxStatus.FAILED);
+            failedCounter.increment();
+            log.error("❌ 알림 outbox 최종 실패: id={}, postId={}, attempts={}", row.getId(), row.getPostId(), attempts);
+            return;
+        }
+
+        long backoffMs = Math.min(baseBackoffMs << Math.min(attempts - 1, 20), maxBackoffMs);
+        row.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs)));
+        retryCounter.increment();
+    }
+
+    /**
+     * 보관 기간이 지난 SENT/FAILED 행 삭제 (행 잠금이 길어지지 않도록 purgeBatchSize 건씩 나눠 커밋)
+     */
+    @Scheduled(cron = "${community.notification-outbox.purge-cron:0 40 4 * * *}")
+    public void purge() {
+        try {
+            int sent = purge(OutboxStatus.SENT, LocalDateTime.now().minusDays(sentRetentionDays));
+            int failed = purge(OutboxStatus.FAILED, LocalDateTime.now().minusDays(failedRetentionDays));
+            log.info("🧹 알림 outbox 정리 완료: SENT {}건, FAILED {}건", sent, failed);
+        } catch (Exception e) {
+            log.error("❌ 알림 outbox 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private int purge(OutboxStatus status, LocalDateTime before) {
+        int total = 0;
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(tx ->
+                    outboxRepository.deleteOlderThan(status.name(), before, purgeBatchSize));
+            total += deleted == null ? 0 : deleted;
+        } while (deleted != null && deleted >= purgeBatchSize);
+        return total;
+    }
+
+    private void refreshMetrics() {
+        try {
+            pendingDepth.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+            LocalDateTime oldest = outboxRepository.findOldestCreatedAtByStatus(OutboxStatus.PENDING);
+            relayLagSeconds.set(oldest == null ? 0 : Math.max(Duration.between(oldest, LocalDateTime.now()).getSeconds(), 0));
+        } catch (Exception e) {
+            log.warn("⚠️ 알림 outbox 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private String titleOf(String type) {
+        return NotificationOutboxService.TYPE_LIKE.equals(type) ? "❤️ 좋아요 알림" : "💬 새 댓글 알림";
+    }
+
+    private String renderContent(NotificationOutbox row, String actorNickname) {
+        String postTitle = row.getPostTitle() == null ? "" : row.getPostTitle();
+        if (postTitle.length() > 20) {
+            postTitle = postTitle.substring(0, 20) + "...";
+        }
+
+        String action = NotificationOutboxService.TYPE_LIKE.equals(row.getType())
+                ? "좋아요를 눌렀습니다."
+                : "댓글을 남겼습니다.";
+
+        // ✅ 자기 게시글에 자기가 남긴 경우와 타인인 경우 구분
+        if (row.getRecipientUserId().equals(row.getActorUserId())) {
+            return String.format("회원님이 '%s' 게시글에 %s", postTitle, action);
+        }
+        if (actorNickname == null) {
+            return null;
+        }
+        return String.format("%s님이 '%s' 게시글에 %s", actorNickname, postTitle, action);
+    }
+}
@@ -0,0 +1,27 @@
+package com.deungsanlog.community.search;
+
+import com.deungsanlog.community.domain.CommunityPost;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 게시글 키워드 검색 엔진
+ * community.search.engine 값으로 구현체 선택 (like | fulltext)
+ */
+public interface CommunityPostSearchEngine {
+
+    /**
+     * @param field       검색 대상 ("all", "title", "content")
+     * @param keyword     검색어 (공백 아님)
+     * @param byRelevance true 면 관련도순 정렬 (지원하지 않는 엔진은 pageable 정렬 사용)
+     * @param pageable    페이지/정렬 정보
+     */
+    Page<CommunityPost> search(String field, String keyword, boolean byRelevance, Pageable pageable);
+
+    /**
+     * totalPages 가 추정치인지 여부 (추정 카운트 모드)
+     */
+    default boolean isCountEstimated() {
+        return false;
+    }
+}
@@ -0,0 +1,180 @@
+package com.deungsanlog.community.search;
+
+import com.deungsanlog.community.domain.CommunityPost;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram) 인덱스 기반 검색
+ * - 인덱스: src/main/resources/db/community_posts_fulltext.sql
+ * - ngram 파서라 한글도 공백 없이 부분 일치, 인덱스는 INSERT/UPDATE/DELETE 시 MySQL이 자동 반영
+ * - 검색어가 ngram 토큰 길이보다 짧거나 인덱스가 없으면 LIKE 검색으로 대체
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "community.search.engine", havingValue = "fulltext")
+public class FullTextCommunityPostSearchEngine implements CommunityPostSearchEngine {
+
+    // 검색 대상 → FULLTEXT 인덱스 컬럼 (MATCH 컬럼 목록은 인덱스 정의와 정확히 같아야 함)
+    private static final Map<String, String> MATCH_COLUMNS = Map.of(
+            "all", "title, content",
+            "title", "title",
+            "content", "content"
+    );
+
+    // 검색 대상 → 필요한 FULLTEXT 인덱스 이름 (db/community_posts_fulltext.sql)
+    private static final Map<String, String> MATCH_INDEXES = Map.of(
+            "all", "ft_community_posts_title_content",
+            "title", "ft_community_posts_title",
+            "content", "ft_community_posts_content"
+    );
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "likeCount", "like_count",
+            "id", "id"
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final LikeCommunityPostSearchEngine likeSearchEngine;
+    private final int ngramTokenSize;
+    private final boolean estimatedCount;
+    private final int estimatedCountLimit;
+    private final long indexProbeRetryMs;
+    // 확인된 ngram FULLTEXT 인덱스 이름 (null: 아직 확인 못함)
+    private volatile Set<String> availableIndexes;
+    private volatile long nextProbeAtMs;
+
+    public FullTextCommunityPostSearchEngine(
+            LikeCommunityPostSearchEngine likeSearchEngine,
+            @Value("${community.search.ngram-token-size:2}") int ngramTokenSize,
+            @Value("${community.search.count-mode:exact}") String countMode,
+            @Value("${community.search.estimated-count-limit:1000}") int estimatedCountLimit,
+            @Value("${community.search.index-probe-retry-ms:60000}") long indexProbeRetryMs) {
+        this.likeSearchEngine = likeSearchEngine;
+        this.ngramTokenSize = ngramTokenSize;
+        this.estimatedCount = "estimated".equalsIgnoreCase(countMode);
+        this.estimatedCountLimit = estimatedCountLimit;
+        this.indexProbeRetryMs = indexProbeRetryMs;
+    }
+
+    @Override
+    public Page<CommunityPost> search(String field, String keyword, boolean byRelevance, Pageable pageable) {
+        String trimmed = keyword.trim();
+        String target = MATCH_COLUMNS.containsKey(field.toLowerCase()) ? field.toLowerCase() : "all";
+        if (trimmed.length() < ngramTokenSize || !isIndexAvailable(MATCH_INDEXES.get(target))) {
+            return likeSearchEngine.search(field, keyword, byRelevance, pageable);
+        }
+
+        String columns = MATCH_COLUMNS.get(target);
+        String match = "MATCH(" + columns + ") AGAINST(:query IN BOOLEAN MODE)";
+        String query = toPhraseQuery(trimmed);
+
+        Query select = entityManager.createNativeQuery(
+                "SELECT * FROM community_posts WHERE " + match +
+                        " ORDER BY " + orderBy(match, byRelevance, pageable.getSort()),
+                CommunityPost.class);
+        select.setParameter("query", query);
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+
+        @SuppressWarnings("unchecked")
+        List<CommunityPost> posts = select.getResultList();
+
+        return new PageImpl<>(posts, pageable, count(match, query));
+    }
+
+    @Override
+    public boolean isCountEstimated() {
+        return estimatedCount;
+    }
+
+    /**
+     * exact: 전체 일치 건수 / estimated: 최대 estimatedCountLimit 건까지만 세어 인덱스 스캔 범위 제한
+     */
+    private long count(String match, String query) {
+        String sql = estimatedCount
+                ? "SELECT COUNT(*) FROM (SELECT id FROM community_posts WHERE " + match + " LIMIT " + estimatedCountLimit + ") t"
+                : "SELECT COUNT(*) FROM community_posts WHERE " + match;
+
+        Query count = entityManager.createNativeQuery(sql);
+        count.setParameter("query", query);
+        return ((Number) count.getSingleResult()).longValue();
+    }
+
+    private String orderBy(String match, boolean byRelevance, Sort sort) {
+        if (byRelevance) {
+            return match + " DESC, id DESC";
+        }
+
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                orderBy.append(column).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+            }
+        }
+        return orderBy.append("id DESC").toString();
+    }
+
+    // BOOLEAN MODE 연산자(+ - * " 등)를 무력화하고 구문(연속된 ngram) 일치로 검색
+    private String toPhraseQuery(String keyword) {
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
+
+    /**
+     * 검색에 필요한 인덱스가 있는지 - 확인 실패나 누락 인덱스가 있으면 indexProbeRetryMs 후 다시 확인
+     * (인덱스를 나중에 추가해도 재시작 없이 FULLTEXT 검색으로 전환)
+     */
+    private boolean isIndexAvailable(String indexName) {
+        Set<String> indexes = availableIndexes;
+        boolean complete = indexes != null && indexes.containsAll(MATCH_INDEXES.values());
+        if (!complete && System.currentTimeMillis() >= nextProbeAtMs) {
+            indexes = probeIndexes();
+        }
+        return indexes != null && indexes.contains(indexName);
+    }
+
+    private synchronized Set<String> probeIndexes() {
+        if (System.currentTimeMillis() < nextProbeAtMs) {
+            return availableIndexes; // 다른 스레드가 방금 확인함
+        }
+        nextProbeAtMs = System.currentTimeMillis() + indexProbeRetryMs;
+        try {
+            @SuppressWarnings("unchecked")
+            List<Object> names = entityManager.createNativeQuery(
+                            "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS " +
+                                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'community_posts' " +
+                                    "AND INDEX_TYPE = 'FULLTEXT' AND INDEX_NAME IN (:names)")
+                    .setParameter("names", MATCH_INDEXES.values())
+                    .getResultList();
+            Set<String> indexes = names.stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet());
+            if (!indexes.containsAll(MATCH_INDEXES.values())) {
+                log.warn("⚠️ community_posts FULLTEXT 인덱스 일부가 없어 해당 검색은 LIKE 로 대체합니다: 있음={}", indexes);
+            }
+            availableIndexes = indexes;
+        } catch (Exception e) {
+            // 결과를 고정하지 않음 - 이전 확인 결과를 유지하고 다음 간격에 다시 확인
+            log.error("❌ FULLTEXT 인덱스 확인 실패 - {}ms 후 다시 확인: {}", indexProbeRetryMs, e.getMessage());
+        }
+        return availableIndexes;
+    }
+}
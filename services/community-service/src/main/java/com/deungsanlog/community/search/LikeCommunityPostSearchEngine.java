@@ -0,0 +1,29 @@
+package com.deungsanlog.community.search;
+
+import com.deungsanlog.community.domain.CommunityPost;
+import com.deungsanlog.community.repository.CommunityPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIKE '%keyword%' 기반 검색 (기본 엔진, FULLTEXT 인덱스가 없는 환경의 대체 수단)
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeCommunityPostSearchEngine implements CommunityPostSearchEngine {
+
+    private final CommunityPostRepository communityPostRepository;
+
+    @Override
+    public Page<CommunityPost> search(String field, String keyword, boolean byRelevance, Pageable pageable) {
+        if ("title".equalsIgnoreCase(field)) {
+            return communityPostRepository.findByTitleContainingIgnoreCase(keyword, pageable);
+        } else if ("content".equalsIgnoreCase(field)) {
+            return communityPostRepository.findByContentContainingIgnoreCase(keyword, pageable);
+        }
+        // 제목+내용 모두 포함하는 검색
+        return communityPostRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable);
+    }
+}
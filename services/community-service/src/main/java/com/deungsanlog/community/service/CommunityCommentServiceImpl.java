@@ -1,12 +1,10 @@
 package com.deungsanlog.community.service;
 
-import com.deungsanlog.community.client.NotificationServiceClient;
-import com.deungsanlog.community.client.UserClient;
+import com.deungsanlog.community.client.UserNicknameCache;
 import com.deungsanlog.community.domain.CommunityComment;
 import com.deungsanlog.community.domain.CommunityPost;
 import com.deungsanlog.community.dto.CommunityCommentRequest;
 import com.deungsanlog.community.dto.CommunityCommentResponse;
-import com.deungsanlog.community.dto.NotificationRequest;
 import com.deungsanlog.community.repository.CommunityCommentRepository;
 import com.deungsanlog.community.repository.CommunityPostRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -22,9 +21,9 @@ import java.util.List;
 public class CommunityCommentServiceImpl implements CommunityCommentService {
 
     private final CommunityCommentRepository commentRepository;
-    private final UserClient userClient;
+    private final UserNicknameCache userNicknameCache;
     private final CommunityPostRepository postRepository;
-    private final NotificationServiceClient notificationServiceClient;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Override
     @Transactional
@@ -42,52 +41,12 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
         );
         postRepository.incrementCommentCount(request.getPostId());
 
-        // ✅ 자기 댓글도 알림 전송 (조건 제거)
-        sendCommentNotification(post, request.getUserId());
+        // ✅ 자기 댓글도 알림 (같은 트랜잭션의 outbox 행, 전송은 릴레이가 담당)
+        notificationOutboxService.enqueue(NotificationOutboxService.TYPE_COMMENT, post, request.getUserId());
 
         return saved;
     }
 
-    // 알림 전송 로직 - 자기 댓글도 알림 보내도록 수정
-    private void sendCommentNotification(CommunityPost post, Long commenterId) {
-        try {
-            String commenterName = userClient.getNickname(commenterId);
-            String title = "💬 새 댓글 알림";
-
-            // ✅ 자기 댓글인 경우와 타인 댓글인 경우 구분
-            String content;
-            if (post.getUserId().equals(commenterId)) {
-                // 자기 게시글에 자기가 댓글
-                content = String.format("회원님이 '%s' 게시글에 댓글을 남겼습니다.",
-                        post.getTitle().length() > 20
-                                ? post.getTitle().substring(0, 20) + "..."
-                                : post.getTitle());
-            } else {
-                // 타인이 댓글
-                content = String.format("%s님이 '%s' 게시글에 댓글을 남겼습니다.",
-                        commenterName,
-                        post.getTitle().length() > 20
-                                ? post.getTitle().substring(0, 20) + "..."
-                                : post.getTitle());
-            }
-
-            notificationServiceClient.sendNotification(
-                    NotificationRequest.builder()
-                            .userId(post.getUserId())  // 게시글 작성자에게 알림 (자기 자신 포함)
-                            .type("comment")
-                            .title(title)
-                            .content(content)
-                            .build()
-            );
-
-            log.info("✅ 댓글 알림 전송 완료: postId={}, postAuthor={}, commenter={}",
-                    post.getId(), post.getUserId(), commenterId);
-
-        } catch (Exception e) {
-            log.error("❌ 댓글 알림 전송 실패: postId={}, error={}", post.getId(), e.getMessage());
-        }
-    }
-
     @Override
     @Transactional
     public void deleteComment(Long commentId) {
@@ -103,11 +62,12 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
 
     @Override
     public List<CommunityCommentResponse> getCommentsByPostId(Long postId) {
-        return commentRepository.findByPostId(postId).stream()
-                .map(comment -> {
-                    String nickname = userClient.getNickname(comment.getUserId());
-                    return CommunityCommentResponse.from(comment, nickname);
-                })
+        List<CommunityComment> comments = commentRepository.findByPostId(postId);
+        Map<Long, String> nicknames = userNicknameCache.getNicknames(
+                comments.stream().map(CommunityComment::getUserId).toList());
+
+        return comments.stream()
+                .map(comment -> CommunityCommentResponse.from(comment, nicknames.get(comment.getUserId())))
                 .toList();
     }
 }
\ No newline at end of file
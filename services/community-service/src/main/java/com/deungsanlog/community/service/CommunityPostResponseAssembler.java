@@ -0,0 +1,77 @@
+package com.deungsanlog.community.service;
+
+import com.deungsanlog.community.client.UserNicknameCache;
+import com.deungsanlog.community.domain.CommunityPost;
+import com.deungsanlog.community.domain.CommunityPostImage;
+import com.deungsanlog.community.dto.CommunityPostResponse;
+import com.deungsanlog.community.dto.ImageVariantUrls;
+import com.deungsanlog.community.repository.CommunityPostImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 → 응답 DTO 변환
+ * 작성자 닉네임과 이미지를 게시글마다 조회하지 않고 목록 단위로 한 번에 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityPostResponseAssembler {
+
+    private final CommunityPostImageRepository imageRepository;
+    private final UserNicknameCache userNicknameCache;
+    private final PostLikeCountBuffer likeCountBuffer;
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    public CommunityPostResponse toResponse(CommunityPost post) {
+        return toResponses(List.of(post)).get(0);
+    }
+
+    public List<CommunityPostResponse> toResponses(List<CommunityPost> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream().map(CommunityPost::getId).toList();
+        Map<Long, String> nicknames = userNicknameCache.getNicknames(
+                posts.stream().map(CommunityPost::getUserId).toList());
+
+        // 쿼리 1회로 게시글별 이미지 URL 묶기 (sortOrder 순서 유지)
+        Map<Long, List<String>> imageUrlsByPostId = imageRepository.findAllByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        image -> image.getPost().getId(),
+                        Collectors.mapping(CommunityPostImage::getImageUrl, Collectors.toList())));
+
+        return posts.stream()
+                .map(post -> toResponse(post, nicknames,
+                        imageUrlsByPostId.getOrDefault(post.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private CommunityPostResponse toResponse(CommunityPost post, Map<Long, String> nicknames, List<String> imageUrls) {
+        // 축소본은 목록에서 원본 대신 내려받도록 (ArrayList: 생성 전 항목은 null)
+        List<ImageVariantUrls> imageVariants = new ArrayList<>(imageUrls.size());
+        imageUrls.forEach(url -> imageVariants.add(imageVariantGenerator.variantUrls(url)));
+
+        return CommunityPostResponse.builder()
+                .id(post.getId())
+                .userId(post.getUserId())
+                .nickname(nicknames.get(post.getUserId()))
+                .mountainId(post.getMountainId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .hasImage(post.isHasImage())
+                .likeCount((int) Math.max(post.getLikeCount() + likeCountBuffer.pendingDelta(post.getId()), 0))
+                .commentCount(post.getCommentCount())
+                .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
+                .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
+                .imageUrls(imageUrls)
+                .imageVariants(imageVariants)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.deungsanlog.community.service;
 
 import com.deungsanlog.community.dto.CommunityPostCreateRequest;
+import com.deungsanlog.community.dto.CommunityPostCursorPage;
 import com.deungsanlog.community.dto.CommunityPostResponse;
 import com.deungsanlog.community.dto.CommunityPostUpdateRequest;
 
@@ -12,6 +13,9 @@ public interface CommunityPostService {
 
     List<CommunityPostResponse> getAllPosts();
 
+    // 커서(createdAt, id) 기반 최신순 게시글 목록 - cursor 가 없으면 첫 페이지
+    CommunityPostCursorPage getPostsByCursor(String cursor, int size);
+
     CommunityPostResponse getPostById(Long postId);
 
     List<CommunityPostResponse> getRecentPosts(int limit);
@@ -1,20 +1,20 @@
 package com.deungsanlog.community.service;
 
-import com.deungsanlog.community.client.NotificationServiceClient;
-import com.deungsanlog.community.client.UserClient;
 import com.deungsanlog.community.domain.CommunityPost;
 import com.deungsanlog.community.domain.CommunityPostImage;
 import com.deungsanlog.community.domain.CommunityPostLike;
 import com.deungsanlog.community.dto.CommunityPostCreateRequest;
+import com.deungsanlog.community.dto.CommunityPostCursorPage;
 import com.deungsanlog.community.dto.CommunityPostResponse;
 import com.deungsanlog.community.dto.CommunityPostUpdateRequest;
-import com.deungsanlog.community.dto.NotificationRequest;
 import com.deungsanlog.community.repository.CommunityPostImageRepository;
 import com.deungsanlog.community.repository.CommunityPostLikeRepository;
 import com.deungsanlog.community.repository.CommunityPostRepository;
+import com.deungsanlog.community.search.CommunityPostSearchEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,25 +23,32 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommunityPostServiceImpl implements CommunityPostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final CommunityPostRepository postRepository;
     private final CommunityPostImageRepository imageRepository;
     private final CommunityPostRepository communityPostRepository;
-    private final UserClient userClient;
     private final CommunityPostLikeRepository communityPostLikeRepository;
-
-    // ❤️ 알림 서비스 추가
-    private final NotificationServiceClient notificationServiceClient;
+    private final CommunityPostResponseAssembler responseAssembler;
+    private final CommunityPostSearchEngine searchEngine;
+    private final PostLikeCountBuffer likeCountBuffer;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ImageVariantGenerator imageVariantGenerator;
 
     @Value("${community.upload-path}")
     private String uploadDir;
@@ -59,10 +66,12 @@ public class CommunityPostServiceImpl implements CommunityPostService {
 
         postRepository.save(post);
 
-        List<CommunityPostImage> images = request.getImageUrls().stream()
-                .map(url -> CommunityPostImage.builder()
+        List<String> imageUrls = request.getImageUrls() != null ? request.getImageUrls() : List.of();
+        List<CommunityPostImage> images = IntStream.range(0, imageUrls.size())
+                .mapToObj(i -> CommunityPostImage.builder()
                         .post(post)
-                        .imageUrl(url)
+                        .imageUrl(imageUrls.get(i))
+                        .sortOrder(i)
                         .build())
                 .collect(Collectors.toList());
 
@@ -89,56 +98,38 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         CommunityPost post = communityPostRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
 
-        String nickname = userClient.getNickname(post.getUserId());
-
-        List<String> imageUrls = imageRepository.findAllByPostId(post.getId()).stream()
-                .map(CommunityPostImage::getImageUrl)
-                .collect(Collectors.toList());
-
-        return CommunityPostResponse.builder()
-                .id(post.getId())
-                .userId(post.getUserId())
-                .nickname(nickname)
-                .mountainId(post.getMountainId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .hasImage(post.isHasImage())
-                .likeCount(post.getLikeCount())
-                .commentCount(post.getCommentCount())
-                .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                .imageUrls(imageUrls)
-                .build();
+        return responseAssembler.toResponse(post);
     }
 
     public List<CommunityPostResponse> getAllPosts() {
         List<CommunityPost> posts = communityPostRepository.findAll();
+        return responseAssembler.toResponses(posts);
+    }
 
-        return posts.stream()
-                .map(post -> {
-                    String nickname = userClient.getNickname(post.getUserId());
-
-                    List<String> imageUrls = imageRepository.findAllByPostId(post.getId())
-                            .stream()
-                            .map(CommunityPostImage::getImageUrl)
-                            .collect(Collectors.toList());
-
-                    return CommunityPostResponse.builder()
-                            .id(post.getId())
-                            .userId(post.getUserId())
-                            .nickname(nickname)
-                            .mountainId(post.getMountainId())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .hasImage(post.isHasImage())
-                            .likeCount(post.getLikeCount())
-                            .commentCount(post.getCommentCount())
-                            .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .imageUrls(imageUrls)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CommunityPostCursorPage getPostsByCursor(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommunityPost> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = communityPostRepository.findFirstPage(limit);
+        } else {
+            posts = findPageAfterCursor(cursor, limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        return CommunityPostCursorPage.builder()
+                .posts(responseAssembler.toResponses(posts))
+                .nextCursor(hasNext ? encodeCursor(posts.get(posts.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
@@ -146,30 +137,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     public List<CommunityPostResponse> getRecentPosts(int limit) {
         List<CommunityPost> posts = communityPostRepository
                 .findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit));
-        return posts.stream()
-                .map(post -> {
-                    String nickname = userClient.getNickname(post.getUserId());
-                    List<String> imageUrls = imageRepository.findAllByPostId(post.getId())
-                            .stream()
-                            .map(CommunityPostImage::getImageUrl)
-                            .toList();
-
-                    return CommunityPostResponse.builder()
-                            .id(post.getId())
-                            .userId(post.getUserId())
-                            .nickname(nickname)
-                            .mountainId(post.getMountainId())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .hasImage(post.isHasImage())
-                            .likeCount(post.getLikeCount())
-                            .commentCount(post.getCommentCount())
-                            .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .imageUrls(imageUrls)
-                            .build();
-                })
-                .toList();
+        return responseAssembler.toResponses(posts);
     }
 
     @Override
@@ -188,14 +156,14 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         imageRepository.deleteAll(oldImages);
 
         // 새 이미지 저장
-        List<CommunityPostImage> newImages = request.getImageUrls() != null
-                ? request.getImageUrls().stream()
-                .map(url -> CommunityPostImage.builder()
+        List<String> imageUrls = request.getImageUrls() != null ? request.getImageUrls() : List.of();
+        List<CommunityPostImage> newImages = IntStream.range(0, imageUrls.size())
+                .mapToObj(i -> CommunityPostImage.builder()
                         .post(post)
-                        .imageUrl(url)
+                        .imageUrl(imageUrls.get(i))
+                        .sortOrder(i)
                         .build())
-                .toList()
-                : List.of();
+                .toList();
         imageRepository.saveAll(newImages);
 
         communityPostRepository.save(post);
@@ -218,6 +186,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
                     System.err.println("이미지 파일 삭제 실패: " + filePath);
                 }
             }
+            imageVariantGenerator.deleteVariants(filename);
         }
         imageRepository.deleteAll(images);
         postRepository.deleteById(postId);
@@ -226,142 +195,43 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     @Override
     @Transactional
     public void likePost(Long postId, Long userId) {
-        if (communityPostLikeRepository.existsByPostIdAndUserId(postId, userId)) {
+        CommunityPost post = communityPostRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+
+        // 1. 좋아요 저장 - 중복 여부는 (post_id, user_id) 유니크 제약으로 판단
+        try {
+            communityPostLikeRepository.saveAndFlush(CommunityPostLike.builder()
+                    .postId(postId)
+                    .userId(userId)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
             throw new IllegalStateException("이미 좋아요를 누른 게시글입니다.");
         }
 
-        // 1. 좋아요 저장
-        CommunityPostLike like = CommunityPostLike.builder()
-                .postId(postId)
-                .userId(userId)
-                .build();
-        communityPostLikeRepository.save(like);
-
-        // 2. 좋아요 수 증가
-        communityPostRepository.incrementLikeCount(postId);
-
-        // 3. ❤️ 좋아요 알림 전송 (자기 좋아요도 알림 보내도록 수정)
-        CommunityPost post = communityPostRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+        // 2. ❤️ 좋아요 알림 적재 (같은 트랜잭션의 outbox 행, 전송은 릴레이가 담당 / 자기 좋아요도 알림)
+        notificationOutboxService.enqueue(NotificationOutboxService.TYPE_LIKE, post, userId);
 
-        // ✅ 조건 제거 - 자기 좋아요도 알림 전송
-        sendLikeNotification(post, userId);
+        // 3. 좋아요 수 증가 (커밋 후 버퍼에 누적, 주기적으로 일괄 반영 - 행 잠금 없음)
+        likeCountBuffer.increment(postId);
     }
 
     @Override
-    @Transactional
     public void unlikePost(Long postId, Long userId) {
-        if (!communityPostLikeRepository.existsByPostIdAndUserId(postId, userId)) {
+        if (communityPostLikeRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
             throw new IllegalStateException("좋아요를 누르지 않은 게시글입니다.");
         }
 
-        communityPostLikeRepository.deleteByPostIdAndUserId(postId, userId);
-
         // ✅ 좋아요 수 감소
-        communityPostRepository.decrementLikeCount(postId);
-    }
-
-    /**
-     * ❤️ 좋아요 알림 전송 (자기 좋아요도 알림 보내도록 수정)
-     */
-    private void sendLikeNotification(CommunityPost post, Long likedUserId) {
-        try {
-            log.info("❤️ 좋아요 알림 전송 시작: postId={}, postAuthor={}, liker={}",
-                    post.getId(), post.getUserId(), likedUserId);
-
-            // 1. 좋아요한 사용자 닉네임 조회
-            String likerName = userClient.getNickname(likedUserId);
-
-            // 2. 알림 내용 생성
-            String postTitle = post.getTitle();
-            if (postTitle.length() > 20) {
-                postTitle = postTitle.substring(0, 20) + "...";
-            }
-
-            // ✅ 자기 좋아요인 경우와 타인 좋아요인 경우 구분
-            String content;
-            if (post.getUserId().equals(likedUserId)) {
-                // 자기 게시글에 자기가 좋아요
-                content = String.format("회원님이 '%s' 게시글에 좋아요를 눌렀습니다.", postTitle);
-            } else {
-                // 타인이 좋아요
-                content = String.format("%s님이 '%s' 게시글에 좋아요를 눌렀습니다.", likerName, postTitle);
-            }
-
-            // 3. 알림 요청 생성
-            NotificationRequest notificationRequest = NotificationRequest.builder()
-                    .userId(post.getUserId()) // 게시글 작성자에게 알림 (자기 자신 포함)
-                    .type("like")
-                    .content(content)
-                    .title("❤️ 좋아요 알림")
-                    .build();
-
-            // 4. 알림 전송
-            notificationServiceClient.sendNotification(notificationRequest);
-
-            log.info("❤️ 좋아요 알림 전송 성공: postId={} → userId={}",
-                    post.getId(), post.getUserId());
-
-        } catch (Exception e) {
-            log.error("❌ 좋아요 알림 전송 실패: postId={}, error={}",
-                    post.getId(), e.getMessage());
-            // 알림 실패가 좋아요를 막지 않도록 예외를 잡아서 로그만 남김
-        }
+        likeCountBuffer.decrement(postId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CommunityPostResponse> searchPosts(String sort, String field, String keyword, int page, int size) {
-        // 정렬 기준 변환
-        Sort sorting;
-        if ("popular".equalsIgnoreCase(sort)) {
-            sorting = Sort.by(Sort.Direction.DESC, "likeCount");
-        } else if ("oldest".equalsIgnoreCase(sort)) {
-            sorting = Sort.by(Sort.Direction.ASC, "createdAt");
-        } else {
-            sorting = Sort.by(Sort.Direction.DESC, "createdAt");
-        }
-        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), sorting);
-
-        List<CommunityPost> posts;
-
-        if (keyword == null || keyword.trim().isEmpty()) {
-            posts = communityPostRepository.findAll(pageable).getContent();
-        } else if ("all".equalsIgnoreCase(field)) {
-            // 제목+내용 모두 포함하는 검색
-            posts = communityPostRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable).getContent();
-        } else if ("title".equalsIgnoreCase(field)) {
-            posts = communityPostRepository.findByTitleContainingIgnoreCase(keyword, pageable).getContent();
-        } else if ("content".equalsIgnoreCase(field)) {
-            posts = communityPostRepository.findByContentContainingIgnoreCase(keyword, pageable).getContent();
-        } else {
-            posts = communityPostRepository.findAll(pageable).getContent();
-        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), resolveSort(sort));
+        List<CommunityPost> posts = findPosts(sort, field, keyword, pageable).getContent();
 
-        return posts.stream()
-                .map(post -> {
-                    String nickname = userClient.getNickname(post.getUserId());
-                    List<String> imageUrls = imageRepository.findAllByPostId(post.getId())
-                            .stream()
-                            .map(CommunityPostImage::getImageUrl)
-                            .collect(Collectors.toList());
-
-                    return CommunityPostResponse.builder()
-                            .id(post.getId())
-                            .userId(post.getUserId())
-                            .nickname(nickname)
-                            .mountainId(post.getMountainId())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .hasImage(post.isHasImage())
-                            .likeCount(post.getLikeCount())
-                            .commentCount(post.getCommentCount())
-                            .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .imageUrls(imageUrls)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return responseAssembler.toResponses(posts);
     }
 
     @Override
@@ -369,31 +239,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     public List<CommunityPostResponse> getPostsByUser(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), Sort.by(Sort.Direction.DESC, "createdAt"));
         List<CommunityPost> posts = communityPostRepository.findByUserId(userId, pageable).getContent();
-
-        return posts.stream()
-                .map(post -> {
-                    String nickname = userClient.getNickname(post.getUserId());
-                    List<String> imageUrls = imageRepository.findAllByPostId(post.getId())
-                            .stream()
-                            .map(CommunityPostImage::getImageUrl)
-                            .collect(Collectors.toList());
-
-                    return CommunityPostResponse.builder()
-                            .id(post.getId())
-                            .userId(post.getUserId())
-                            .nickname(nickname)
-                            .mountainId(post.getMountainId())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .hasImage(post.isHasImage())
-                            .likeCount(post.getLikeCount())
-                            .commentCount(post.getCommentCount())
-                            .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .imageUrls(imageUrls)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return responseAssembler.toResponses(posts);
     }
 
     @Override
@@ -401,31 +247,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     public Map<String, Object> getPostsByUserWithTotalPages(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<CommunityPost> postPage = communityPostRepository.findByUserId(userId, pageable);
-
-        List<CommunityPostResponse> posts = postPage.getContent().stream()
-                .map(post -> {
-                    String nickname = userClient.getNickname(post.getUserId());
-                    List<String> imageUrls = imageRepository.findAllByPostId(post.getId())
-                            .stream()
-                            .map(CommunityPostImage::getImageUrl)
-                            .collect(Collectors.toList());
-
-                    return CommunityPostResponse.builder()
-                            .id(post.getId())
-                            .userId(post.getUserId())
-                            .nickname(nickname)
-                            .mountainId(post.getMountainId())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .hasImage(post.isHasImage())
-                            .likeCount(post.getLikeCount())
-                            .commentCount(post.getCommentCount())
-                            .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .imageUrls(imageUrls)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<CommunityPostResponse> posts = responseAssembler.toResponses(postPage.getContent());
 
         Map<String, Object> result = new HashMap<>();
         result.put("totalPages", postPage.getTotalPages());
@@ -436,57 +258,56 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> searchPostsWithTotalPages(String sort, String field, String keyword, int page, int size) {
-        Sort sorting;
-        if ("popular".equalsIgnoreCase(sort)) {
-            sorting = Sort.by(Sort.Direction.DESC, "likeCount");
-        } else if ("oldest".equalsIgnoreCase(sort)) {
-            sorting = Sort.by(Sort.Direction.ASC, "createdAt");
-        } else {
-            sorting = Sort.by(Sort.Direction.DESC, "createdAt");
-        }
-        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), sorting);
-
-        Page<CommunityPost> postPage;
-        if (keyword == null || keyword.trim().isEmpty()) {
-            postPage = communityPostRepository.findAll(pageable);
-        } else if ("all".equalsIgnoreCase(field)) {
-            postPage = communityPostRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable);
-        } else if ("title".equalsIgnoreCase(field)) {
-            postPage = communityPostRepository.findByTitleContainingIgnoreCase(keyword, pageable);
-        } else if ("content".equalsIgnoreCase(field)) {
-            postPage = communityPostRepository.findByContentContainingIgnoreCase(keyword, pageable);
-        } else {
-            postPage = communityPostRepository.findAll(pageable);
-        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), resolveSort(sort));
+        Page<CommunityPost> postPage = findPosts(sort, field, keyword, pageable);
 
-        List<CommunityPostResponse> posts = postPage.getContent().stream()
-                .map(post -> {
-                    String nickname = userClient.getNickname(post.getUserId());
-                    List<String> imageUrls = imageRepository.findAllByPostId(post.getId())
-                            .stream()
-                            .map(CommunityPostImage::getImageUrl)
-                            .collect(Collectors.toList());
-
-                    return CommunityPostResponse.builder()
-                            .id(post.getId())
-                            .userId(post.getUserId())
-                            .nickname(nickname)
-                            .mountainId(post.getMountainId())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .hasImage(post.isHasImage())
-                            .likeCount(post.getLikeCount())
-                            .commentCount(post.getCommentCount())
-                            .createdAt(post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .updatedAt(post.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME))
-                            .imageUrls(imageUrls)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<CommunityPostResponse> posts = responseAssembler.toResponses(postPage.getContent());
 
         Map<String, Object> result = new HashMap<>();
         result.put("totalPages", postPage.getTotalPages());
+        result.put("totalPagesEstimated", isKeywordSearch(field, keyword) && searchEngine.isCountEstimated());
         result.put("posts", posts);
         return result;
     }
+
+    // 정렬 기준 변환 (relevance 는 검색 엔진이 처리, 지원하지 않으면 최신순)
+    private Sort resolveSort(String sort) {
+        if ("popular".equalsIgnoreCase(sort)) {
+            return Sort.by(Sort.Direction.DESC, "likeCount");
+        } else if ("oldest".equalsIgnoreCase(sort)) {
+            return Sort.by(Sort.Direction.ASC, "createdAt");
+        }
+        return Sort.by(Sort.Direction.DESC, "createdAt");
+    }
+
+    private Page<CommunityPost> findPosts(String sort, String field, String keyword, Pageable pageable) {
+        if (!isKeywordSearch(field, keyword)) {
+            return communityPostRepository.findAll(pageable);
+        }
+        return searchEngine.search(field, keyword, "relevance".equalsIgnoreCase(sort), pageable);
+    }
+
+    private boolean isKeywordSearch(String field, String keyword) {
+        return keyword != null && !keyword.trim().isEmpty()
+                && ("all".equalsIgnoreCase(field) || "title".equalsIgnoreCase(field) || "content".equalsIgnoreCase(field));
+    }
+
+    // 커서 = base64url("createdAt|id")
+    private String encodeCursor(CommunityPost post) {
+        String key = post.getCreatedAt() + "|" + post.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<CommunityPost> findPageAfterCursor(String cursor, Pageable limit) {
+        LocalDateTime createdAt;
+        long id;
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            createdAt = LocalDateTime.parse(key[0]);
+            id = Long.parseLong(key[1]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        return communityPostRepository.findPageBefore(createdAt, id, limit);
+    }
 }
\ No newline at end of file
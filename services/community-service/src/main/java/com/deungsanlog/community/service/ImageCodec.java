@@ -0,0 +1,422 @@
+package com.deungsanlog.community.service;
+
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 업로드 이미지 읽기/변환/저장 (ImageVariantGenerator, 업로드 원본 정리에서 사용)
+ * - 읽기: 필요한 너비까지만 건너뛰며 디코딩하고 EXIF 방향(Orientation)을 픽셀에 반영
+ * - 저장: 메타데이터 없는 JPEG
+ * - 원본 정리: 디코딩 없이 JPEG/PNG 메타데이터(EXIF 위치 정보, XMP, 주석 등)만 걷어냄
+ *   JPEG 는 표시 방향을 잃지 않도록 Orientation 태그 하나만 남긴 Exif 로 바꿔 씀
+ */
+public final class ImageCodec {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    // 위치/촬영 정보가 들어가는 PNG 보조 청크
+    private static final Set<String> PNG_METADATA_CHUNKS = Set.of("eXIf", "tEXt", "zTXt", "iTXt", "tIME");
+    private static final int APP1 = 0xE1;
+    private static final int APP13 = 0xED; // IPTC/Photoshop
+    private static final int COM = 0xFE;
+    private static final int SOS = 0xDA;
+    private static final int EOI = 0xD9;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private ImageCodec() {
+    }
+
+    /**
+     * 표시 너비가 targetWidth 이상이 되는 범위에서 건너뛰며 디코딩 (큰 사진 전체를 메모리에 올리지 않음)
+     * EXIF 방향을 반영한 RGB 이미지 반환, 읽을 수 없는 형식이면 null
+     */
+    public static BufferedImage read(Path file, int targetWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int orientation = readOrientation(reader.getImageMetadata(0));
+                boolean swapped = orientation >= 5 && orientation <= 8;
+                int displayWidth = swapped ? reader.getHeight(0) : reader.getWidth(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, displayWidth / targetWidth);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return orient(toRgb(reader.read(0, param)), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 너비 기준 축소 (원본이 더 작으면 크기 유지) - 절반씩 줄여 계단 현상 방지
+     */
+    public static BufferedImage scaleToWidth(BufferedImage image, int width) {
+        BufferedImage current = image;
+        while (current.getWidth() > width) {
+            int nextWidth = Math.max(width, current.getWidth() / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) current.getHeight() * nextWidth / current.getWidth()));
+            current = resize(current, nextWidth, nextHeight);
+        }
+        return current;
+    }
+
+    /**
+     * 가운데를 정사각형으로 잘라 size 로 축소
+     */
+    public static BufferedImage squareThumbnail(BufferedImage image, int size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        BufferedImage square = image.getSubimage(
+                (image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+        return scaleToWidth(square, size);
+    }
+
+    /**
+     * 메타데이터 없이 JPEG 저장 (임시 파일 → rename, 읽는 쪽이 반쯤 쓴 파일을 보지 않도록)
+     * 실패하면 임시 파일 삭제 (업로드 디렉토리는 정적 서빙되므로 남기지 않음)
+     */
+    public static void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 원본을 디코딩하지 않고 메타데이터만 뺀 채 out 으로 복사 (JPEG/PNG 외 형식은 그대로 복사)
+     * - JPEG: APP1(Exif/XMP), APP13(IPTC), COM 제거 - Exif 방향이 있으면 Orientation 만 담은 Exif 로 대체
+     * - PNG: eXIf/tEXt/zTXt/iTXt/tIME 청크 제거
+     */
+    public static void stripMetadata(InputStream source, OutputStream out) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(source, COPY_BUFFER_SIZE);
+        in.mark(PNG_SIGNATURE.length);
+        byte[] head = in.readNBytes(PNG_SIGNATURE.length);
+        in.reset();
+
+        if (head.length >= 2 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8) {
+            stripJpeg(new DataInputStream(in), out);
+        } else if (Arrays.equals(head, PNG_SIGNATURE)) {
+            stripPng(new DataInputStream(in), out);
+        } else {
+            in.transferTo(out);
+        }
+    }
+
+    private static void stripJpeg(DataInputStream in, OutputStream out) throws IOException {
+        out.write(in.readNBytes(2)); // SOI
+        while (true) {
+            int prefix = in.read();
+            if (prefix == -1) {
+                return;
+            }
+            if (prefix != 0xFF) {
+                // 마커 구조가 아님 (손상된 파일) - 나머지는 그대로 복사
+                out.write(prefix);
+                in.transferTo(out);
+                return;
+            }
+            int marker = in.readUnsignedByte();
+            while (marker == 0xFF) { // 채움 바이트
+                marker = in.readUnsignedByte();
+            }
+            if (marker == SOS || marker == EOI) {
+                // 이후는 압축 데이터 - 메타데이터 세그먼트 없음
+                out.write(0xFF);
+                out.write(marker);
+                in.transferTo(out);
+                return;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                out.write(0xFF);
+                out.write(marker);
+                continue;
+            }
+
+            int length = in.readUnsignedShort();
+            if (length < 2) {
+                throw new IOException("잘못된 JPEG 세그먼트 길이: " + length);
+            }
+            if (marker == APP1) {
+                byte[] payload = readFully(in, length - 2);
+                int orientation = exifOrientation(payload);
+                if (orientation != 1) {
+                    writeSegment(out, APP1, orientationOnlyExif(orientation));
+                }
+            } else if (marker == APP13 || marker == COM) {
+                skipFully(in, length - 2);
+            } else {
+                out.write(0xFF);
+                out.write(marker);
+                out.write(length >> 8);
+                out.write(length & 0xFF);
+                copy(in, out, length - 2);
+            }
+        }
+    }
+
+    private static void stripPng(DataInputStream in, OutputStream out) throws IOException {
+        out.write(in.readNBytes(PNG_SIGNATURE.length));
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                return;
+            }
+            byte[] type = readFully(in, 4);
+            String chunk = new String(type, StandardCharsets.ISO_8859_1);
+            if (length < 0) {
+                throw new IOException("잘못된 PNG 청크 길이: " + chunk);
+            }
+            if (PNG_METADATA_CHUNKS.contains(chunk)) {
+                skipFully(in, length + 4L); // 데이터 + CRC
+                continue;
+            }
+            out.write(length >>> 24);
+            out.write(length >>> 16);
+            out.write(length >>> 8);
+            out.write(length);
+            out.write(type);
+            copy(in, out, length + 4L);
+            if ("IEND".equals(chunk)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * "Exif\0\0" + 빅엔디언 TIFF 헤더 + IFD0 에 Orientation(0x0112, SHORT) 항목 하나
+     */
+    static byte[] orientationOnlyExif(int orientation) {
+        byte[] exif = new byte[EXIF_HEADER.length + 8 + 2 + 12 + 4];
+        System.arraycopy(EXIF_HEADER, 0, exif, 0, EXIF_HEADER.length);
+        int tiff = EXIF_HEADER.length;
+        exif[tiff] = 'M';
+        exif[tiff + 1] = 'M';
+        exif[tiff + 3] = 0x2A;
+        exif[tiff + 7] = 8;     // IFD0 위치
+        exif[tiff + 9] = 1;     // 항목 수
+        exif[tiff + 10] = 0x01; // 태그 0x0112
+        exif[tiff + 11] = 0x12;
+        exif[tiff + 13] = 3;    // SHORT
+        exif[tiff + 17] = 1;    // 개수
+        exif[tiff + 19] = (byte) orientation;
+        return exif;             // 다음 IFD 위치 0
+    }
+
+    /**
+     * "Exif\0\0" + TIFF 헤더 + IFD0 에서 0x0112(Orientation) 값 (없거나 Exif 가 아니면 1)
+     */
+    static int exifOrientation(byte[] app1) {
+        int tiff = 6;
+        if (app1.length < tiff + 8 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+            return 1;
+        }
+        boolean littleEndian = app1[tiff] == 'I';
+        long ifd = tiff + (readInt(app1, tiff + 4, littleEndian) & 0xFFFFFFFFL);
+        if (ifd + 2 > app1.length) {
+            return 1;
+        }
+        int entries = readShort(app1, (int) ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > app1.length) {
+                break;
+            }
+            if (readShort(app1, entry, littleEndian) == 0x0112) {
+                int value = readShort(app1, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * JPEG APP1(Exif) 의 Orientation 태그 (없으면 1)
+     */
+    private static int readOrientation(IIOMetadata metadata) {
+        if (metadata == null || !"javax_imageio_jpeg_image_1.0".equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        Node markers = child(metadata.getAsTree("javax_imageio_jpeg_image_1.0"), "markerSequence");
+        for (Node node = markers == null ? null : markers.getFirstChild(); node != null; node = node.getNextSibling()) {
+            NamedNodeMap attributes = node.getAttributes();
+            Node tag = attributes == null ? null : attributes.getNamedItem("MarkerTag");
+            if ("unknown".equals(node.getNodeName()) && tag != null && "225".equals(tag.getNodeValue())
+                    && node instanceof IIOMetadataNode meta
+                    && meta.getUserObject() instanceof byte[] app1) {
+                return exifOrientation(app1);
+            }
+        }
+        return 1;
+    }
+
+    private static Node child(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int a = bytes[offset] & 0xFF;
+        int b = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+
+    /**
+     * 투명 배경은 흰색으로 채운 RGB 이미지로 변환 (JPEG 저장용)
+     */
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * EXIF 방향(1~8)에 맞게 회전/뒤집기 - 원본 (x, y) 픽셀이 표시될 위치로 옮김
+     */
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swapped = orientation >= 5;
+        int[] source = image.getRGB(0, 0, w, h, null, 0, w);
+        int outWidth = swapped ? h : w;
+        int[] target = new int[source.length];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int tx;
+                int ty;
+                switch (orientation) {
+                    case 2 -> { tx = w - 1 - x; ty = y; }           // 좌우 반전
+                    case 3 -> { tx = w - 1 - x; ty = h - 1 - y; }   // 180도
+                    case 4 -> { tx = x; ty = h - 1 - y; }           // 상하 반전
+                    case 5 -> { tx = y; ty = x; }                   // 대각 반전
+                    case 6 -> { tx = h - 1 - y; ty = x; }           // 시계 90도
+                    case 7 -> { tx = h - 1 - y; ty = w - 1 - x; }   // 역대각 반전
+                    default -> { tx = y; ty = w - 1 - x; }          // 8: 반시계 90도
+                }
+                target[ty * outWidth + tx] = source[y * w + x];
+            }
+        }
+        BufferedImage oriented = new BufferedImage(outWidth, swapped ? w : h, BufferedImage.TYPE_INT_RGB);
+        oriented.setRGB(0, 0, outWidth, swapped ? w : h, target, 0, outWidth);
+        return oriented;
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private static void writeSegment(OutputStream out, int marker, byte[] payload) throws IOException {
+        int length = payload.length + 2;
+        out.write(0xFF);
+        out.write(marker);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.write(payload);
+    }
+
+    private static byte[] readFully(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void skipFully(InputStream in, long length) throws IOException {
+        in.skipNBytes(length);
+    }
+
+    private static void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(COPY_BUFFER_SIZE, Math.max(length, 1))];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                throw new EOFException("이미지 데이터가 중간에 끝남");
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+}
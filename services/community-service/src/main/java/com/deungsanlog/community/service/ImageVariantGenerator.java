@@ -0,0 +1,180 @@
+package com.deungsanlog.community.service;
+
+import com.deungsanlog.community.dto.ImageVariantUrls;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 이미지 축소본 생성 (썸네일 200x200, 너비 640/1280 JPEG)
+ * - 업로드 후 별도 스레드 풀에서 생성, 원본 옆에 {이름}_thumb.jpg / _w640.jpg / _w1280.jpg 로 저장
+ * - 다시 인코딩하면서 EXIF(위치 정보 등)는 버리고 방향(Orientation)만 픽셀에 반영
+ * - 목록 응답은 썸네일이 있을 때만 축소본 URL 을 내려줌 (썸네일을 마지막에 저장)
+ * - 썸네일 유무는 메모리 집합으로 판단 (조회 경로에서 파일 시스템 확인 안 함)
+ *   시작 시 한 번, 이후 rescan-ms 마다 디렉토리를 훑어 다른 인스턴스가 만든/지운 축소본을 반영
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final int THUMBNAIL_SIZE = 200;
+    private static final int MEDIUM_WIDTH = 640;
+    private static final int LARGE_WIDTH = 1280;
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+
+    private final Path uploadDir;
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+    // 축소본이 모두 저장된 원본의 확장자 뺀 이름
+    private final Set<String> ready = ConcurrentHashMap.newKeySet();
+    // 스레드 풀이 가득 차 거절된 생성 작업 (retryDeferred 에서 다시 예약)
+    private final Set<String> deferred = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantGenerator(@Value("${community.upload-path}") String uploadPath,
+                                 @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor) {
+        this.uploadDir = Paths.get(uploadPath).toAbsolutePath();
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    @PostConstruct
+    public void loadReady() {
+        rescan();
+    }
+
+    /**
+     * 디렉토리의 썸네일 목록으로 준비된 축소본 집합 갱신
+     * 훑는 사이 새로 생성된 항목은 지우지 않도록 시작 전 스냅샷에 있던 항목만 제거 대상
+     */
+    @Scheduled(initialDelayString = "${community.image-variant.rescan-ms:300000}",
+            fixedDelayString = "${community.image-variant.rescan-ms:300000}")
+    public void rescan() {
+        if (!Files.isDirectory(uploadDir)) {
+            return;
+        }
+        Set<String> before = Set.copyOf(ready);
+        Set<String> found = new HashSet<>();
+        try (DirectoryStream<Path> thumbnails = Files.newDirectoryStream(uploadDir, "*" + THUMBNAIL_SUFFIX)) {
+            for (Path thumbnail : thumbnails) {
+                String name = thumbnail.getFileName().toString();
+                found.add(name.substring(0, name.length() - THUMBNAIL_SUFFIX.length()));
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ 축소본 목록 갱신 실패: {}", e.getMessage());
+            return;
+        }
+        ready.addAll(found);
+        before.stream().filter(base -> !found.contains(base)).forEach(ready::remove);
+        log.debug("축소본 목록 갱신: {}개", found.size());
+    }
+
+    /**
+     * 축소본 생성 예약 (이미 있으면 건너뜀)
+     */
+    public void generateAsync(String fileName) {
+        try {
+            imageVariantExecutor.execute(() -> generate(fileName));
+        } catch (TaskRejectedException e) {
+            // 요청 스레드(업로드/트랜잭션)에서 디코딩하지 않고 미룸
+            deferred.add(fileName);
+            log.warn("⚠️ 축소본 생성 대기열 초과 - 나중에 생성: {}", fileName);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.image-variant.retry-ms:30000}")
+    public void retryDeferred() {
+        for (String fileName : deferred) {
+            try {
+                imageVariantExecutor.execute(() -> generate(fileName));
+                deferred.remove(fileName);
+            } catch (TaskRejectedException e) {
+                return; // 아직 가득 참 - 다음 주기에 이어서
+            }
+        }
+    }
+
+    /**
+     * 원본 URL 의 축소본 URL (아직 생성 전이거나 이미지가 아니면 null)
+     */
+    public ImageVariantUrls variantUrls(String originalUrl) {
+        if (originalUrl == null || originalUrl.isBlank()) {
+            return null;
+        }
+        int slash = originalUrl.lastIndexOf('/');
+        String prefix = originalUrl.substring(0, slash + 1);
+        String fileName = originalUrl.substring(slash + 1);
+        if (!ready.contains(baseName(fileName))) {
+            return null;
+        }
+        return new ImageVariantUrls(
+                prefix + variantName(fileName, "thumb"),
+                prefix + variantName(fileName, "w" + MEDIUM_WIDTH),
+                prefix + variantName(fileName, "w" + LARGE_WIDTH));
+    }
+
+    /**
+     * 축소본 파일 삭제 (원본은 호출 측에서 삭제)
+     */
+    public void deleteVariants(String fileName) {
+        deferred.remove(fileName);
+        for (String suffix : new String[]{"w" + MEDIUM_WIDTH, "w" + LARGE_WIDTH, "thumb"}) {
+            try {
+                Files.deleteIfExists(uploadDir.resolve(variantName(fileName, suffix)));
+            } catch (IOException e) {
+                log.warn("⚠️ 축소본 삭제 실패: {}_{}", fileName, suffix);
+            }
+        }
+        ready.remove(baseName(fileName));
+    }
+
+    void generate(String fileName) {
+        Path original = uploadDir.resolve(fileName);
+        Path thumbnail = uploadDir.resolve(variantName(fileName, "thumb"));
+        if (Files.exists(thumbnail)) {
+            ready.add(baseName(fileName));
+            return; // 이미 생성됨
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            BufferedImage image = ImageCodec.read(original, LARGE_WIDTH);
+            if (image == null) {
+                log.info("축소본 생성 건너뜀 (지원하지 않는 형식): {}", fileName);
+                return;
+            }
+            ImageCodec.writeJpeg(ImageCodec.scaleToWidth(image, LARGE_WIDTH),
+                    uploadDir.resolve(variantName(fileName, "w" + LARGE_WIDTH)), JPEG_QUALITY);
+            ImageCodec.writeJpeg(ImageCodec.scaleToWidth(image, MEDIUM_WIDTH),
+                    uploadDir.resolve(variantName(fileName, "w" + MEDIUM_WIDTH)), JPEG_QUALITY);
+            ImageCodec.writeJpeg(ImageCodec.squareThumbnail(image, THUMBNAIL_SIZE), thumbnail, JPEG_QUALITY);
+            ready.add(baseName(fileName));
+            log.info("🖼️ 축소본 생성 완료: {} ({}x{}), {}ms", fileName, image.getWidth(), image.getHeight(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("❌ 축소본 생성 실패: {}, error={}", fileName, e.getMessage());
+        }
+    }
+
+    static String variantName(String fileName, String suffix) {
+        return baseName(fileName) + "_" + suffix + ".jpg";
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+}
@@ -0,0 +1,34 @@
+package com.deungsanlog.community.service;
+
+import com.deungsanlog.community.domain.CommunityPost;
+import com.deungsanlog.community.domain.NotificationOutbox;
+import com.deungsanlog.community.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 커뮤니티 알림 적재 - 좋아요/댓글 저장과 같은 트랜잭션에서 outbox 행만 기록하고
+ * 실제 전송은 NotificationOutboxRelay 가 담당 (요청 경로에서 원격 호출 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    public static final String TYPE_LIKE = "like";
+    public static final String TYPE_COMMENT = "comment";
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String type, CommunityPost post, Long actorUserId) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .recipientUserId(post.getUserId()) // 게시글 작성자에게 알림 (자기 자신 포함)
+                .actorUserId(actorUserId)
+                .type(type)
+                .postId(post.getId())
+                .postTitle(post.getTitle())
+                .build());
+    }
+}
@@ -0,0 +1,117 @@
+package com.deungsanlog.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 좋아요 수 write-behind 버퍼
+ * - 좋아요/취소 시 community_posts 행 잠금 없이 postId 별 LongAdder 에 증감만 누적
+ * - 주기적으로 누적분을 한 번의 배치 UPDATE 로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCountBuffer {
+
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE community_posts SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    // 맵에서 제거된 카운터 - 제거 직전에 참조를 얻은 요청의 증감분을 다음 flush 때 한 번 더 회수
+    private final ConcurrentLinkedQueue<Map.Entry<Long, LongAdder>> retired = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 좋아요 수 +1 - 트랜잭션 안이면 커밋 후에만 누적 (롤백된 좋아요가 반영되지 않도록)
+     */
+    public void increment(Long postId) {
+        afterCommit(() -> pendingDeltas.computeIfAbsent(postId, id -> new LongAdder()).increment());
+    }
+
+    public void decrement(Long postId) {
+        afterCommit(() -> pendingDeltas.computeIfAbsent(postId, id -> new LongAdder()).decrement());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분 (응답의 likeCount 보정용)
+     */
+    public long pendingDelta(Long postId) {
+        LongAdder adder = pendingDeltas.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${community.like.flush-interval-ms:1000}")
+    public void flush() {
+        // postId 순으로 정렬해 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록 함
+        Map<Long, Long> deltas = new TreeMap<>();
+
+        Map.Entry<Long, LongAdder> stale;
+        while ((stale = retired.poll()) != null) {
+            long delta = stale.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.merge(stale.getKey(), delta, Long::sum);
+            }
+        }
+
+        pendingDeltas.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.merge(postId, delta, Long::sum);
+            } else if (pendingDeltas.remove(postId, adder)) {
+                retired.add(Map.entry(postId, adder));
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+
+        try {
+            jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, args);
+            log.debug("❤️ 좋아요 수 반영 완료: posts={}", deltas.size());
+        } catch (Exception e) {
+            // 반영 실패분은 다음 주기에 다시 시도
+            log.error("❌ 좋아요 수 반영 실패: posts={}, error={}", deltas.size(), e.getMessage());
+            deltas.forEach((postId, delta) ->
+                    pendingDeltas.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush(); // retired 카운터까지 회수
+    }
+}
@@ -0,0 +1,20 @@
+-- 커뮤니티 알림 outbox (좋아요/댓글 알림을 같은 트랜잭션에 적재, 릴레이가 bulk-send 로 전송)
+CREATE TABLE IF NOT EXISTS community_notification_outbox (
+    id                BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    recipient_user_id BIGINT       NOT NULL,
+    actor_user_id     BIGINT       NOT NULL,
+    type              VARCHAR(20)  NOT NULL,
+    post_id           BIGINT       NOT NULL,
+    post_title        VARCHAR(255),
+    status            VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts          INT          NOT NULL DEFAULT 0,
+    next_attempt_at   DATETIME(6)  NOT NULL,
+    last_error        VARCHAR(500),
+    created_at        DATETIME(6),
+    sent_at           DATETIME(6),
+    INDEX idx_outbox_status_next_attempt (status, next_attempt_at),
+    INDEX idx_outbox_status_created (status, created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 이미 테이블이 있는 경우: 보관 기간 정리용 인덱스
+-- CREATE INDEX idx_outbox_status_created ON community_notification_outbox (status, created_at);
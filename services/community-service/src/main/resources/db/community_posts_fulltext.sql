@@ -0,0 +1,8 @@
+-- community_posts 검색용 FULLTEXT 인덱스 (MySQL 8, ngram 파서)
+-- community.search.engine=fulltext 사용 전 1회 실행
+-- ngram_token_size(기본 2)는 community.search.ngram-token-size 와 같게 유지
+
+ALTER TABLE community_posts
+    ADD FULLTEXT INDEX ft_community_posts_title_content (title, content) WITH PARSER ngram,
+    ADD FULLTEXT INDEX ft_community_posts_title (title) WITH PARSER ngram,
+    ADD FULLTEXT INDEX ft_community_posts_content (content) WITH PARSER ngram;
@@ -0,0 +1,21 @@
+package com.deungsanlog.mountain.client;
+
+import com.deungsanlog.mountain.dto.HotMountainResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * 등산 기록 관련 Record Service 호출용 Feign Client
+ */
+@FeignClient(name = "record-service")
+public interface RecordServiceClient {
+
+    /**
+     * 최근 한 달 등산 기록 수 기준 인기 산 순위 (자동완성 정렬용)
+     */
+    @GetMapping("/api/records/hot-mountains")
+    List<HotMountainResponse> getHotMountains(@RequestParam("limit") int limit);
+}
@@ -0,0 +1,50 @@
+package com.deungsanlog.mountain.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class MountainExecutorConfig {
+
+    /**
+     * 정시 산불/날씨 알림 작업용 제한된 스레드 풀
+     * 격자/산 단위 작업을 병렬로 돌리되 동시 외부 호출 수는 고정, 큐가 차면 스케줄러 스레드에서 직접 실행
+     */
+    @Bean(name = "alertJobExecutor")
+    public ThreadPoolTaskExecutor alertJobExecutor(
+            @Value("${mountain.alert-job.threads:8}") int threads,
+            @Value("${mountain.alert-job.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("alert-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 산 상세 조회 조립용 스레드 풀 (설명/일출일몰/날씨/산불 조회를 동시에 실행)
+     * 큐가 차면 거절 → 해당 항목은 바로 기본값 (요청 스레드에서 실행하면 항목별 제한시간이 적용되지 않음)
+     */
+    @Bean(name = "mountainDetailExecutor")
+    public ThreadPoolTaskExecutor mountainDetailExecutor(
+            @Value("${mountain.detail.threads:16}") int threads,
+            @Value("${mountain.detail.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mountain-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
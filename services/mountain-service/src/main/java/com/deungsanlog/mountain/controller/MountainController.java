@@ -1,12 +1,21 @@
 package com.deungsanlog.mountain.controller;
 
+import com.deungsanlog.mountain.dto.MountainAutocompleteResponse;
 import com.deungsanlog.mountain.dto.MountainDetailDto;
 import com.deungsanlog.mountain.dto.MountainRecordSearchResponse;
 import com.deungsanlog.mountain.entity.Mountain;
+import com.deungsanlog.mountain.service.MountainMapPayloadCache;
+import com.deungsanlog.mountain.service.MountainMapPayloadCache.Payload;
 import com.deungsanlog.mountain.service.MountainService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +26,14 @@ public class MountainController {
     @Autowired
     private MountainService mountainService;
 
+    @Autowired
+    private MountainMapPayloadCache mountainMapPayloadCache;
+
+    private static final Duration MAP_CACHE_MAX_AGE = Duration.ofMinutes(5);
+    private static final double MAX_RADIUS_KM = 100;
+    private static final int MAX_LIMIT = 200;
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
     // ========== 기존 API들 ==========
 
     @GetMapping("/status")
@@ -34,6 +51,16 @@ public class MountainController {
         return mountainService.searchByKeyword(keyword);
     }
 
+    /**
+     * 산 이름/지역 자동완성 - 초성("ㅂㅎㅅ")·입력 중 글자("북하") 매칭, 인기순 상위 limit 개
+     * GET /api/mountains/autocomplete?q=북한&limit=10
+     */
+    @GetMapping("/autocomplete")
+    public List<MountainAutocompleteResponse> autocomplete(@RequestParam String q,
+                                                           @RequestParam(defaultValue = "10") int limit) {
+        return mountainService.autocomplete(q, Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE_LIMIT));
+    }
+
     @GetMapping("/name-by-id")
     public Map<String, String> getMountainNameById(@RequestParam Long mountainId) {
         String name = mountainService.getMountainBasic(mountainId).getName();
@@ -47,8 +74,52 @@ public class MountainController {
      * 용도: 지도 로드 시 모든 산의 마커를 생성하기 위해
      */
     @GetMapping("/all")
-    public List<Mountain> getAllMountainsForMap() {
-        return mountainService.getAllMountainsForMap();
+    public ResponseEntity<byte[]> getAllMountainsForMap(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return payloadResponse(mountainMapPayloadCache.getMountains(), ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * 지도 마커용 요약 목록 (id, name, lat, lon, elevation) - 지도 첫 로드용 경량 응답
+     * 산 목록이 바뀔 때만 새로 만들고, ETag 가 같으면 304
+     */
+    @GetMapping("/markers")
+    public ResponseEntity<byte[]> getMountainMarkers(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return payloadResponse(mountainMapPayloadCache.getMarkers(), ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * 내 주변 산 - 기준 좌표 반경 내 산 목록 (가까운 순)
+     * GET /api/mountains/nearby?lat=37.66&lon=126.98&radiusKm=10
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyMountains(@RequestParam double lat,
+                                                @RequestParam double lon,
+                                                @RequestParam(defaultValue = "10") double radiusKm,
+                                                @RequestParam(defaultValue = "50") int limit) {
+        if (!isValidCoordinate(lat, lon) || radiusKm <= 0 || radiusKm > MAX_RADIUS_KM || limit <= 0) {
+            return ResponseEntity.badRequest().body(Map.of("error", "좌표 또는 반경(최대 " + MAX_RADIUS_KM + "km)이 올바르지 않습니다"));
+        }
+        return ResponseEntity.ok(mountainService.getNearbyMountains(lat, lon, radiusKm, Math.min(limit, MAX_LIMIT)));
+    }
+
+    /**
+     * 지도 화면 영역 내 산 목록 - 현재 보이는 영역의 마커만 요청
+     * GET /api/mountains/bbox?minLat=37.4&minLon=126.8&maxLat=37.8&maxLon=127.2
+     */
+    @GetMapping("/bbox")
+    public ResponseEntity<?> getMountainsInBoundingBox(@RequestParam double minLat,
+                                                       @RequestParam double minLon,
+                                                       @RequestParam double maxLat,
+                                                       @RequestParam double maxLon) {
+        if (!isValidCoordinate(minLat, minLon) || !isValidCoordinate(maxLat, maxLon)
+                || minLat > maxLat || minLon > maxLon) {
+            return ResponseEntity.badRequest().body(Map.of("error", "지도 영역 좌표가 올바르지 않습니다"));
+        }
+        return ResponseEntity.ok(mountainService.getMountainsInBoundingBox(minLat, minLon, maxLat, maxLon));
     }
 
     /**
@@ -69,5 +140,33 @@ public class MountainController {
         return mountainService.getMountainDetail(mountainId);
     }
 
+    /**
+     * 미리 만든 JSON 응답 전송 - gzip 지원 클라이언트에는 압축본, 보낼 표현의 ETag 와 If-None-Match 일치 시 304
+     */
+    private ResponseEntity<byte[]> payloadResponse(Payload payload, String ifNoneMatch, String acceptEncoding) {
+        CacheControl cacheControl = CacheControl.maxAge(MAP_CACHE_MAX_AGE).cachePublic().mustRevalidate();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? payload.gzipEtag() : payload.etag();
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return builder.body(payload.json());
+    }
 
-}
\ No newline at end of file
+    private boolean isValidCoordinate(double lat, double lon) {
+        return lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180;
+    }
+}
@@ -0,0 +1,65 @@
+package com.deungsanlog.mountain.dto;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 기상청 단기예보 격자(nx, ny) 한 칸의 예보 요약
+ * API 응답(category/fcstDate/fcstTime/fcstValue 행 목록)을 날짜별로 접어 보관
+ */
+public record GridForecast(
+        int nx,
+        int ny,
+        String baseDate,        // 발표일 (yyyyMMdd)
+        String baseTime,        // 발표시각 (HHmm)
+        LocalDateTime fetchedAt,
+        List<DailyForecast> days
+) {
+
+    /**
+     * 하루 예보
+     * 시각별 기온/습도/하늘상태와 일 단위 극값을 함께 보관
+     * 대표 시각(오늘은 현재 시각, 이후 날짜는 12시) 값은 캐시에 고정하지 않고 응답할 때 nearest() 로 고름
+     */
+    public record DailyForecast(
+            LocalDate date,
+            List<HourlyForecast> hourly, // 예보 시각 오름차순
+            Double minTemperature,  // 일 최저기온 TMN (℃)
+            Double maxTemperature,  // 일 최고기온 TMX (℃)
+            Double maxWindSpeed,    // 최대 풍속 WSD (m/s)
+            double precipitation,   // 1시간 강수량 PCP 합계 (mm)
+            Integer maxPrecipitationProbability, // 최대 강수확률 POP (%)
+            int precipitationType   // 가장 강한 강수형태 PTY (0 없음, 1 비, 2 비/눈, 3 눈, 4 소나기)
+    ) {
+
+        /**
+         * target 에 가장 가까운 예보 시각 값 (시각별 예보가 없으면 null)
+         */
+        public HourlyForecast nearest(LocalTime target) {
+            HourlyForecast best = null;
+            long bestDistance = Long.MAX_VALUE;
+            for (HourlyForecast hour : hourly) {
+                long distance = Math.abs(Duration.between(target, hour.time()).toMinutes());
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = hour;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * 예보 시각 하나의 값
+     */
+    public record HourlyForecast(
+            LocalTime time,
+            Double temperature,     // 기온 TMP (℃)
+            Integer humidity,       // 습도 REH (%)
+            int sky                 // 하늘상태 SKY (1 맑음, 3 구름많음, 4 흐림, 0 정보없음)
+    ) {
+    }
+}
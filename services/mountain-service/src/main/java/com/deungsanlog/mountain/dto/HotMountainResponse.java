@@ -0,0 +1,12 @@
+package com.deungsanlog.mountain.dto;
+
+/**
+ * record-service 인기 산 응답
+ */
+public record HotMountainResponse(
+        int rank,
+        Long mountainId,
+        String mountainName,
+        Long recordCount
+) {
+}
@@ -0,0 +1,14 @@
+package com.deungsanlog.mountain.dto;
+
+/**
+ * 산 자동완성 결과
+ *
+ * @param matchedField 일치한 항목 ("NAME", "LOCATION")
+ */
+public record MountainAutocompleteResponse(
+        Long id,
+        String name,
+        String location,
+        String matchedField
+) {
+}
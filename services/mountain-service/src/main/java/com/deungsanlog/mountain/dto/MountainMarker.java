@@ -0,0 +1,20 @@
+package com.deungsanlog.mountain.dto;
+
+import com.deungsanlog.mountain.entity.Mountain;
+
+/**
+ * 지도 마커용 산 요약 (마커 표시에 필요한 값만)
+ */
+public record MountainMarker(
+        Long id,
+        String name,
+        Double lat,
+        Double lon,
+        Integer elevation
+) {
+
+    public static MountainMarker from(Mountain mountain) {
+        return new MountainMarker(mountain.getId(), mountain.getName(),
+                mountain.getLatitude(), mountain.getLongitude(), mountain.getElevation());
+    }
+}
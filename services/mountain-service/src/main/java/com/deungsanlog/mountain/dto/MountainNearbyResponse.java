@@ -0,0 +1,38 @@
+package com.deungsanlog.mountain.dto;
+
+import com.deungsanlog.mountain.entity.Mountain;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MountainNearbyResponse {
+
+    private Long id;
+    private String name;
+    private String location;
+    private Integer elevation;
+    private Double latitude;
+    private Double longitude;
+    private String thumbnailImgUrl;
+
+    // 기준 좌표로부터의 거리 (km, 소수 둘째 자리)
+    private Double distanceKm;
+
+    public static MountainNearbyResponse from(Mountain mountain, double distanceKm) {
+        return MountainNearbyResponse.builder()
+                .id(mountain.getId())
+                .name(mountain.getName())
+                .location(mountain.getLocation())
+                .elevation(mountain.getElevation())
+                .latitude(mountain.getLatitude())
+                .longitude(mountain.getLongitude())
+                .thumbnailImgUrl(mountain.getThumbnailImgUrl())
+                .distanceKm(Math.round(distanceKm * 100) / 100.0)
+                .build();
+    }
+}
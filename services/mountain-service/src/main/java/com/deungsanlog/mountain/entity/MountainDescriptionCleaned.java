@@ -0,0 +1,63 @@
+package com.deungsanlog.mountain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * mountain_descriptions 의 HTML 정리본 (산 상세 조회 시 그대로 응답)
+ * 원문이 바뀌면 source_hash 가 달라져 정리 작업이 다시 만듦
+ */
+@Entity
+@Table(name = "mountain_descriptions_cleaned")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MountainDescriptionCleaned {
+
+    @Id
+    @Column(name = "mountain_id")
+    private Long mountainId;
+
+    @Column(name = "description_id")
+    private Long descriptionId;
+
+    @Column(name = "summary", columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "full_description", columnDefinition = "TEXT")
+    private String fullDescription;
+
+    @Column(name = "nearby_tour_info", columnDefinition = "TEXT")
+    private String nearbyTourInfo;
+
+    @Column(name = "difficulty", length = 50)
+    private String difficulty;
+
+    @Column(name = "hiking_point_info", columnDefinition = "TEXT")
+    private String hikingPointInfo;
+
+    @Column(name = "hiking_course_info", columnDefinition = "TEXT")
+    private String hikingCourseInfo;
+
+    @Column(name = "transport_info", columnDefinition = "TEXT")
+    private String transportInfo;
+
+    // 원문 7개 필드 해시 + 정리 규칙 버전
+    @Column(name = "source_hash", length = 32, nullable = false)
+    private String sourceHash;
+
+    @Column(name = "cleaned_at")
+    private LocalDateTime cleanedAt;
+
+    /**
+     * 응답용 MountainDescription (영속 상태가 아닌 새 객체)
+     */
+    public MountainDescription toDescription() {
+        return new MountainDescription(descriptionId, mountainId, summary, fullDescription, nearbyTourInfo,
+                difficulty, hikingPointInfo, hikingCourseInfo, transportInfo);
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalTime;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "mountain_sun_info")
+@Table(name = "mountain_sun_info",
+        indexes = @Index(name = "idx_mountain_sun_info_mountain_date", columnList = "mountain_id, date"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,31 @@
+package com.deungsanlog.mountain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스 중 하나만 정시 작업을 실행하도록 잡는 DB 잠금 행
+ * locked_until 이 지나면 (실행 인스턴스가 죽었어도) 다른 인스턴스가 가져갈 수 있음
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
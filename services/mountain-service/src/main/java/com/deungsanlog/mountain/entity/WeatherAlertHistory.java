@@ -0,0 +1,31 @@
+package com.deungsanlog.mountain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 산별 마지막으로 발송한 날씨 알림 (같은 날 같은 내용 반복 발송 방지)
+ * 정시 알림 작업은 scheduler_lock 으로 인스턴스를 옮겨 다니므로 메모리가 아닌 DB 에 보관
+ * 격자 단위가 아닌 산 단위로 남겨 일부 산만 발송에 실패하면 다음 회차에 그 산만 다시 보냄
+ */
+@Entity
+@Table(name = "mountain_weather_alert_history")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeatherAlertHistory {
+
+    @Id
+    @Column(name = "mountain_id")
+    private Long mountainId;
+
+    @Column(name = "alert_key", nullable = false)
+    private String alertKey;    // "날짜:알림 내용"
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,17 @@
+package com.deungsanlog.mountain.event;
+
+import com.deungsanlog.mountain.entity.Mountain;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 산 목록이 (다시) 적재됐을 때 발행 - 지역/좌표/검색 등 메모리 인덱스 재구성용
+ */
+@Getter
+@RequiredArgsConstructor
+public class MountainCatalogChangedEvent {
+    private final long version;
+    private final List<Mountain> mountains;
+}
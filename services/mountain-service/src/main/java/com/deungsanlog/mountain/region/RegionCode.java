@@ -0,0 +1,71 @@
+package com.deungsanlog.mountain.region;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 광역 시·도 지역 코드 정규화
+ * "강원도", "강원특별자치도", "강원" → "강원" 처럼 표기가 달라도 같은 코드로 맞춤
+ * (산림청 예보의 doname 과 Mountain.location 을 같은 키로 연결하기 위함)
+ */
+public final class RegionCode {
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"), Map.entry("서울시", "서울"), Map.entry("서울", "서울"),
+            Map.entry("부산광역시", "부산"), Map.entry("부산시", "부산"), Map.entry("부산", "부산"),
+            Map.entry("대구광역시", "대구"), Map.entry("대구시", "대구"), Map.entry("대구", "대구"),
+            Map.entry("인천광역시", "인천"), Map.entry("인천시", "인천"), Map.entry("인천", "인천"),
+            Map.entry("광주광역시", "광주"), Map.entry("광주", "광주"),
+            Map.entry("대전광역시", "대전"), Map.entry("대전시", "대전"), Map.entry("대전", "대전"),
+            Map.entry("울산광역시", "울산"), Map.entry("울산시", "울산"), Map.entry("울산", "울산"),
+            Map.entry("세종특별자치시", "세종"), Map.entry("세종시", "세종"), Map.entry("세종", "세종"),
+            Map.entry("경기도", "경기"), Map.entry("경기", "경기"),
+            Map.entry("강원도", "강원"), Map.entry("강원특별자치도", "강원"), Map.entry("강원", "강원"),
+            Map.entry("충청북도", "충북"), Map.entry("충북", "충북"),
+            Map.entry("충청남도", "충남"), Map.entry("충남", "충남"),
+            Map.entry("전라북도", "전북"), Map.entry("전북특별자치도", "전북"), Map.entry("전북", "전북"),
+            Map.entry("전라남도", "전남"), Map.entry("전남", "전남"),
+            Map.entry("경상북도", "경북"), Map.entry("경북", "경북"),
+            Map.entry("경상남도", "경남"), Map.entry("경남", "경남"),
+            Map.entry("제주특별자치도", "제주"), Map.entry("제주도", "제주"), Map.entry("제주", "제주")
+    );
+
+    private RegionCode() {
+    }
+
+    /**
+     * 시·도 이름 하나를 지역 코드로 변환 (알 수 없는 이름이면 공백 제거한 원문)
+     */
+    public static String normalize(String regionName) {
+        if (regionName == null) {
+            return null;
+        }
+        String trimmed = regionName.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return ALIASES.getOrDefault(trimmed, trimmed);
+    }
+
+    /**
+     * 주소 문자열에 포함된 모든 시·도 코드 추출
+     * 예) "경기도 가평군, 강원도 춘천시" → [경기, 강원]
+     * 시·군·구 단위("광주시" 등)는 토큰 전체가 일치할 때만 인정해 오인식을 막음
+     */
+    public static Set<String> fromLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> codes = new LinkedHashSet<>();
+        for (String token : location.split("[\\s,·/()\\[\\]]+")) {
+            String code = ALIASES.get(token);
+            if (code != null) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+}
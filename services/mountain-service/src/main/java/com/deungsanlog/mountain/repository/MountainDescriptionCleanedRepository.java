@@ -0,0 +1,16 @@
+package com.deungsanlog.mountain.repository;
+
+import com.deungsanlog.mountain.entity.MountainDescriptionCleaned;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MountainDescriptionCleanedRepository extends JpaRepository<MountainDescriptionCleaned, Long> {
+
+    // 정리 작업에서 원문 변경 여부 비교용 (본문 컬럼은 읽지 않음)
+    @Query("SELECT c.mountainId, c.sourceHash FROM MountainDescriptionCleaned c")
+    List<Object[]> findAllSourceHashes();
+}
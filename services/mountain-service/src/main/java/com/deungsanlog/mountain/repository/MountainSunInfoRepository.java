@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,6 +13,10 @@ public interface MountainSunInfoRepository extends JpaRepository<MountainSunInfo
     Optional<MountainSunInfo> findByDate(LocalDate date); // 기존 메서드 유지
 
     Optional<MountainSunInfo> findByMountainIdAndDate(Long mountainId, LocalDate date); // 새로 추가!
+
+    // 산 하나의 기간 일출몰 조회 - (mountain_id, date) 인덱스 범위 스캔 1회
+    List<MountainSunInfo> findByMountainIdAndDateBetween(Long mountainId, LocalDate startDate, LocalDate endDate);
+
     //특정 날짜 범위의 일출몰 모두 조회.
-    //List<MountainSunInfo> findByDateBetween(LocalDate startDate, LocalDate endDate);
+    List<MountainSunInfo> findByDateBetween(LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
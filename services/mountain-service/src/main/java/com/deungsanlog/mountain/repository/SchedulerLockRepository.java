@@ -0,0 +1,38 @@
+package com.deungsanlog.mountain.repository;
+
+import com.deungsanlog.mountain.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO scheduler_lock (name, locked_until, locked_at, locked_by) " +
+            "VALUES (:name, :now, :now, '')", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    // 만료된 잠금만 가져감 - 갱신된 행 수가 1이면 획득 성공
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 내가 잡은 잠금만 해제 (만료 시각을 releaseAt 으로 당김)
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :releaseAt " +
+            "WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner,
+                @Param("releaseAt") LocalDateTime releaseAt);
+}
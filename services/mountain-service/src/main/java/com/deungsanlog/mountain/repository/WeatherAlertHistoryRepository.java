@@ -0,0 +1,9 @@
+package com.deungsanlog.mountain.repository;
+
+import com.deungsanlog.mountain.entity.WeatherAlertHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WeatherAlertHistoryRepository extends JpaRepository<WeatherAlertHistory, Long> {
+}
@@ -1,64 +1,314 @@
 package com.deungsanlog.mountain.scheduler;
 
+import com.deungsanlog.mountain.dto.GridForecast;
+import com.deungsanlog.mountain.dto.GridForecast.DailyForecast;
 import com.deungsanlog.mountain.entity.Mountain;
-import com.deungsanlog.mountain.repository.MountainRepository;
+import com.deungsanlog.mountain.entity.WeatherAlertHistory;
+import com.deungsanlog.mountain.repository.WeatherAlertHistoryRepository;
+import com.deungsanlog.mountain.service.CoordinateConversionService;
+import com.deungsanlog.mountain.service.CoordinateConversionService.GridCoordinate;
 import com.deungsanlog.mountain.service.FireRiskApiService;
+import com.deungsanlog.mountain.service.GridWeatherCache;
+import com.deungsanlog.mountain.service.KmaForecastClient;
+import com.deungsanlog.mountain.service.MountainCatalog;
+import com.deungsanlog.mountain.service.SchedulerLockService;
 import com.deungsanlog.mountain.service.WeatherApiService;
-import lombok.RequiredArgsConstructor;
+import com.deungsanlog.mountain.service.WeatherApiService.WeatherAlert;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 정시 산불/날씨 알림 작업
+ * - 날씨: 산을 기상청 격자 단위로 묶어 격자당 예보 1회만 확인
+ *   (산별 마지막 발송 알림은 mountain_weather_alert_history 에 보관 - 실행 인스턴스가 바뀌어도 같은 알림 재발송 안 함)
+ * - 산불: 지역 위험도 스냅샷에서 경보 지역의 산만 대상
+ * - 외부 호출은 제한된 스레드 풀 + 토큰 버킷으로 병렬 실행, 여러 인스턴스 중 하나만 실행 (scheduler_lock)
+ * - 시간 초과 시 취소 표시 + 작업 스레드 인터럽트 → 실행 중인 작업도 다음 발송 전에 멈춤 (락 보유 시간 안에서 끝나도록)
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class WeatherFireAlertScheduler {
 
+    private static final String LOCK_NAME = "weather-fire-alert";
+
     private final FireRiskApiService fireRiskApiService;
     private final WeatherApiService weatherApiService;
-    private final MountainRepository mountainRepository;
+    private final GridWeatherCache gridWeatherCache;
+    private final CoordinateConversionService coordinateService;
+    private final MountainCatalog mountainCatalog;
+    private final SchedulerLockService schedulerLockService;
+    private final WeatherAlertHistoryRepository weatherAlertHistoryRepository;
+    private final ThreadPoolTaskExecutor alertJobExecutor;
+
+    private final Timer runTimer;
+    private final Counter upstreamCallCounter;
+    private final Counter weatherAlertCounter;
+    private final Counter fireAlertCounter;
+    private final Counter failureCounter;
+
+    @Value("${mountain.alert-job.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${mountain.alert-job.burst:10}")
+    private int burst;
+
+    @Value("${mountain.alert-job.timeout-ms:120000}")
+    private long jobTimeoutMs;
+
+    @Value("${mountain.alert-job.lock-at-least-ms:60000}")
+    private long lockAtLeastMs;
+
+    public WeatherFireAlertScheduler(FireRiskApiService fireRiskApiService,
+                                     WeatherApiService weatherApiService,
+                                     GridWeatherCache gridWeatherCache,
+                                     CoordinateConversionService coordinateService,
+                                     MountainCatalog mountainCatalog,
+                                     SchedulerLockService schedulerLockService,
+                                     WeatherAlertHistoryRepository weatherAlertHistoryRepository,
+                                     @Qualifier("alertJobExecutor") ThreadPoolTaskExecutor alertJobExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.fireRiskApiService = fireRiskApiService;
+        this.weatherApiService = weatherApiService;
+        this.gridWeatherCache = gridWeatherCache;
+        this.coordinateService = coordinateService;
+        this.mountainCatalog = mountainCatalog;
+        this.schedulerLockService = schedulerLockService;
+        this.weatherAlertHistoryRepository = weatherAlertHistoryRepository;
+        this.alertJobExecutor = alertJobExecutor;
+
+        this.runTimer = Timer.builder("mountain.alert.job.duration")
+                .description("정시 산불/날씨 알림 작업 1회 실행 시간")
+                .register(meterRegistry);
+        this.upstreamCallCounter = meterRegistry.counter("mountain.alert.job.upstream.calls");
+        this.weatherAlertCounter = meterRegistry.counter("mountain.alert.job.alerts", "kind", "weather");
+        this.fireAlertCounter = meterRegistry.counter("mountain.alert.job.alerts", "kind", "fire");
+        this.failureCounter = meterRegistry.counter("mountain.alert.job.failures");
+    }
 
     /**
      * 🔔 매시간 정각에 모든 산의 산불/날씨 상황 체크 및 알림 전송
      */
     @Scheduled(cron = "0 0 */1 * * *") // 매시간 정각
     public void sendHourlyWeatherAndFireAlerts() {
+        try {
+            schedulerLockService.runLocked(LOCK_NAME,
+                    Duration.ofMillis(jobTimeoutMs).plusMinutes(1),
+                    Duration.ofMillis(lockAtLeastMs),
+                    this::runAlertJob);
+        } catch (Exception e) {
+            log.error("❌ 정시 알림 체크 전체 실패", e);
+        }
+    }
+
+    private void runAlertJob() {
         log.info("⏰ 정시 산불/날씨 알림 체크 시작");
+        long startedAt = System.nanoTime();
+        TokenBucket rateLimiter = new TokenBucket(ratePerSecond, burst);
+        RunStats stats = new RunStats();
 
-        try {
-            // 🏔️ 모든 산 조회
-            List<Mountain> allMountains = mountainRepository.findAll();
-            log.info("📍 총 {}개 산에 대해 알림 체크", allMountains.size());
+        // 🌧️ 날씨: 산 → 격자 묶기
+        Map<GridCell, List<Mountain>> mountainsByCell = groupByGridCell(mountainCatalog.getMountains());
+        // 산별 마지막 발송 알림 (같은 날 같은 내용이면 매시간 반복 발송하지 않음)
+        Map<Long, String> lastWeatherAlerts = loadLastWeatherAlerts();
+        // 🔥 산불: 경보 지역의 산 (지역 단위 중복 제거)
+        List<Mountain> fireTargets = fireRiskApiService.getFireAlertTargets();
 
-            int fireAlertCount = 0;
-            int weatherAlertCount = 0;
+        // 시간 초과 시 true - 실행 중인 작업은 다음 발송 전에 확인하고 멈춤
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<Future<?>> tasks = new ArrayList<>();
+        mountainsByCell.forEach((cell, mountains) -> tasks.add(alertJobExecutor.submit(
+                () -> checkWeatherCell(cell, mountains, lastWeatherAlerts, rateLimiter, stats, cancelled))));
+        fireTargets.forEach(mountain -> tasks.add(alertJobExecutor.submit(
+                () -> sendFireAlert(mountain, rateLimiter, stats, cancelled))));
 
-            for (Mountain mountain : allMountains) {
+        awaitAll(tasks, cancelled);
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("✅ 정시 알림 체크 완료: {}ms, 격자 {}개(산 {}개), 기상청 호출 {}회, 날씨알림 {}개 산, 산불알림 {}/{}개 산, 실패 {}건",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), mountainsByCell.size(),
+                mountainsByCell.values().stream().mapToInt(List::size).sum(),
+                stats.upstreamCalls.get(), stats.weatherAlerts.get(),
+                stats.fireAlerts.get(), fireTargets.size(), stats.failures.get());
+    }
+
+    /**
+     * 전체 작업을 jobTimeoutMs 까지 기다리고, 넘기면 취소 표시 후 대기/실행 중인 작업을 인터럽트로 취소
+     */
+    private void awaitAll(List<Future<?>> tasks, AtomicBoolean cancelled) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(jobTimeoutMs);
+        try {
+            for (Future<?> task : tasks) {
                 try {
-                    // 🔥 산불 위험도 체크 (기존 메서드 그대로 사용!)
-                    fireRiskApiService.getFireRiskInfo(mountain.getLocation());
-                    fireAlertCount++;
+                    task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException | CancellationException e) {
+                    log.error("❌ 정시 알림 작업 실패", e);
+                }
+            }
+        } catch (TimeoutException e) {
+            cancelled.set(true);
+            long remaining = tasks.stream().filter(task -> !task.isDone()).count();
+            tasks.forEach(task -> task.cancel(true));
+            log.warn("⚠️ 정시 알림 작업 시간 초과: {}ms, 남은 작업 {}개 취소", jobTimeoutMs, remaining);
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                    // 🌧️ 날씨 상황 체크 (기존 메서드 그대로 사용!)
-                    if (mountain.getLatitude() != null && mountain.getLongitude() != null) {
-                        weatherApiService.getCurrentWeather(mountain.getLongitude(), mountain.getLatitude());
-                        weatherAlertCount++;
-                    }
+    private Map<GridCell, List<Mountain>> groupByGridCell(List<Mountain> mountains) {
+        Map<GridCell, List<Mountain>> byCell = new LinkedHashMap<>();
+        for (Mountain mountain : mountains) {
+            if (mountain.getLatitude() == null || mountain.getLongitude() == null) {
+                continue;
+            }
+            GridCoordinate grid = coordinateService.convertToGrid(mountain.getLongitude(), mountain.getLatitude());
+            byCell.computeIfAbsent(new GridCell(grid.x, grid.y), key -> new ArrayList<>()).add(mountain);
+        }
+        return byCell;
+    }
 
-                    // API 호출 간격 조절 (과부하 방지)
-                    Thread.sleep(500); // 0.5초 대기
+    /**
+     * 격자 한 칸의 오늘 예보 확인 → 악천후면 격자 안 산들 중 아직 같은 알림을 받지 않은 산에 알림
+     */
+    private void checkWeatherCell(GridCell cell, List<Mountain> mountains, Map<Long, String> lastAlerts,
+                                  TokenBucket rateLimiter, RunStats stats, AtomicBoolean cancelled) {
+        try {
+            if (isCancelled(cancelled)) {
+                return;
+            }
+            // 캐시 적중이면 토큰 소모 없이 바로 사용
+            if (gridWeatherCache.needsRefresh(cell.nx(), cell.ny())) {
+                rateLimiter.acquire();
+                stats.upstreamCalls.incrementAndGet();
+                upstreamCallCounter.increment();
+            }
+            GridForecast forecast = gridWeatherCache.get(cell.nx(), cell.ny());
+            DailyForecast today = findToday(forecast);
+            if (today == null) {
+                return;
+            }
+
+            WeatherAlert alert = weatherApiService.checkWeatherConditions(today);
+            if (!alert.isAlert()) {
+                List<Long> alerted = mountains.stream()
+                        .map(Mountain::getId)
+                        .filter(lastAlerts::containsKey)
+                        .toList();
+                if (!alerted.isEmpty()) {
+                    weatherAlertHistoryRepository.deleteAllById(alerted);
+                }
+                return;
+            }
+            String alertKey = today.date() + ":" + alert.getMessage();
 
+            for (Mountain mountain : mountains) {
+                if (alertKey.equals(lastAlerts.get(mountain.getId()))) {
+                    continue; // 오늘 이미 같은 알림 발송
+                }
+                rateLimiter.acquire();
+                if (isCancelled(cancelled)) {
+                    return;
+                }
+                try {
+                    weatherApiService.sendWeatherAlertForMountain(mountain, alert);
+                    stats.weatherAlerts.incrementAndGet();
+                    weatherAlertCounter.increment();
                 } catch (Exception e) {
-                    log.error("❌ 산별 알림 체크 실패: {}", mountain.getName(), e);
+                    // 기록을 남기지 않음 → 다음 회차에 이 산만 다시 시도
+                    stats.failures.incrementAndGet();
+                    failureCounter.increment();
+                    continue;
                 }
+                weatherAlertHistoryRepository.save(
+                        new WeatherAlertHistory(mountain.getId(), alertKey, LocalDateTime.now()));
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            stats.failures.incrementAndGet();
+            failureCounter.increment();
+            log.error("❌ 격자 날씨 알림 체크 실패: {}, error={}", cell, e.getMessage());
+        }
+    }
 
-            log.info("✅ 정시 알림 체크 완료: 산불체크 {}개, 날씨체크 {}개", fireAlertCount, weatherAlertCount);
+    private void sendFireAlert(Mountain mountain, TokenBucket rateLimiter, RunStats stats, AtomicBoolean cancelled) {
+        try {
+            rateLimiter.acquire();
+            if (isCancelled(cancelled)) {
+                return;
+            }
+            fireRiskApiService.sendFireRiskAlert(mountain);
+            stats.fireAlerts.incrementAndGet();
+            fireAlertCounter.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            stats.failures.incrementAndGet();
+            failureCounter.increment();
+        }
+    }
+
+    /**
+     * 시간 초과로 취소되었거나 작업 스레드가 인터럽트되었는지
+     */
+    private boolean isCancelled(AtomicBoolean cancelled) {
+        return cancelled.get() || Thread.currentThread().isInterrupted();
+    }
 
+    private Map<Long, String> loadLastWeatherAlerts() {
+        Map<Long, String> lastAlerts = new HashMap<>();
+        try {
+            weatherAlertHistoryRepository.findAll()
+                    .forEach(history -> lastAlerts.put(history.getMountainId(), history.getAlertKey()));
         } catch (Exception e) {
-            log.error("❌ 정시 알림 체크 전체 실패", e);
+            log.warn("⚠️ 날씨 알림 발송 이력 조회 실패 - 이력 없이 진행: {}", e.getMessage());
         }
+        return lastAlerts;
+    }
+
+    private DailyForecast findToday(GridForecast forecast) {
+        LocalDate today = LocalDate.now(KmaForecastClient.KST);
+        return forecast.days().stream()
+                .filter(day -> day.date().equals(today))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private record GridCell(int nx, int ny) {
+    }
+
+    /**
+     * 1회 실행 집계
+     */
+    private static class RunStats {
+        private final AtomicInteger upstreamCalls = new AtomicInteger();
+        private final AtomicInteger weatherAlerts = new AtomicInteger();
+        private final AtomicInteger fireAlerts = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
     }
-}
\ No newline at end of file
+}
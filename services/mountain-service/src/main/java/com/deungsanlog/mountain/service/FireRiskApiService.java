@@ -4,21 +4,32 @@ import com.deungsanlog.mountain.client.FavoriteServiceClient;
 import com.deungsanlog.mountain.client.NotificationServiceClient;
 import com.deungsanlog.mountain.dto.BulkNotificationRequest;
 import com.deungsanlog.mountain.entity.Mountain;
-import com.deungsanlog.mountain.repository.MountainRepository;
+import com.deungsanlog.mountain.region.RegionCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 산림청 산불위험예보 API 호출 서비스 + 알림 발송
+ * 전국 예보를 analdate 단위 스냅샷으로 캐싱해 상세 조회/스케줄러가 공유
+ * 조회는 스냅샷만 읽고 기다리지 않음 (오래됐으면 백그라운드 갱신만 시작, 실패 후에는 일정 시간 재호출 안 함)
+ * 스냅샷에는 시·도 지역 코드별 위험 단계를 함께 보관 (지역 → 산 매핑은 MountainCatalog)
  */
 @Service
 @Slf4j
@@ -32,7 +43,7 @@ public class FireRiskApiService {
     // ✅ 변경된 의존성들
     private final FavoriteServiceClient favoriteServiceClient;
     private final NotificationServiceClient notificationServiceClient;
-    private final MountainRepository mountainRepository;
+    private final MountainCatalog mountainCatalog;
 
     @Value("${fire.api.key}")
     private String apiKey;
@@ -40,76 +51,184 @@ public class FireRiskApiService {
     @Value("${fire.api.url}")
     private String apiUrl;
 
+    @Value("${fire.api.num-of-rows:500}")
+    private int numOfRows;
+
+    @Value("${fire.api.timeout-ms:10000}")
+    private long apiTimeoutMs;
+
+    @Value("${fire.snapshot.max-age-ms:3600000}")
+    private long maxAgeMs;
+
+    @Value("${fire.snapshot.failure-backoff-ms:300000}")
+    private long failureBackoffMs;
+
+    private final AtomicReference<FireRiskSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile long lastFailureAtMs;
+
     /**
-     * 지역별 산불위험예보 조회 + 알림 발송
+     * 지역별 산불위험예보 조회 (스냅샷에서 읽기만, 외부 API 호출 없음)
+     * location 의 시·도 중 가장 위험한 지역 값을 사용하고, 지역 데이터가 없으면 전국 값 사용
      */
     public Map<String, Object> getFireRiskInfo(String location) {
-        log.info("산불위험예보 조회 시작: location={}", location);
-
-        try {
-            // 산림청 API 호출
-            Map<String, Object> apiResponse = callFireRiskApi();
+        FireRiskSnapshot current = getSnapshot();
+        if (current == null) {
+            return createErrorResponse("산불위험예보 데이터가 없습니다");
+        }
 
-            if (apiResponse == null) {
-                return createErrorResponse("API 응답이 null입니다");
+        Map<String, Object> regional = null;
+        int highest = Integer.MIN_VALUE;
+        for (String regionCode : RegionCode.fromLocation(location)) {
+            Map<String, Object> regionResult = current.regionResults().get(regionCode);
+            if (regionResult != null && (int) regionResult.get("meanAvg") > highest) {
+                highest = (int) regionResult.get("meanAvg");
+                regional = regionResult;
             }
+        }
+        return new HashMap<>(regional != null ? regional : current.result());
+    }
 
-            // 응답 파싱
-            Map<String, Object> result = parseFireRiskResponse(apiResponse);
+    /**
+     * 지역 코드별 산불 위험 단계 (스냅샷 기준)
+     */
+    public Map<String, FireRiskLevel> getRegionRiskLevels() {
+        FireRiskSnapshot current = getSnapshot();
+        return current == null ? Map.of() : current.regionLevels();
+    }
 
-            // 🔥 산불 위험도가 높을 때 알림 전송
-            if (result.containsKey("riskLevelCode") && result.containsKey("success")) {
-                String riskLevelCode = result.get("riskLevelCode").toString();
+    /**
+     * 산불 경보 대상 산 목록 (정시 알림 작업에서 호출)
+     * 지역 → 산 인덱스로 경보 단계 지역의 산을 찾고, 여러 경보 지역에 걸친 산은 한 번만 포함
+     */
+    public List<Mountain> getFireAlertTargets() {
+        FireRiskSnapshot current = getSnapshot();
+        if (current == null) {
+            log.warn("⚠️ 산불위험예보 스냅샷 없음 - 알림 체크 생략");
+            return List.of();
+        }
 
-                // 경보 단계(코드 3)일 때만 알림 전송
-                if ("3".equals(riskLevelCode)) {
-                    sendFireRiskAlert(location, result);
-                }
+        Map<Long, Mountain> targets = new LinkedHashMap<>();
+        if (current.regionLevels().isEmpty()) {
+            // 지역 구분이 없는 응답이면 전국 값 기준 (기존 동작)
+            if ("3".equals(String.valueOf(current.result().get("riskLevelCode")))) {
+                mountainCatalog.getMountains().forEach(mountain -> targets.putIfAbsent(mountain.getId(), mountain));
             }
+        } else {
+            current.regionLevels().forEach((regionCode, level) -> {
+                if (level == FireRiskLevel.WARNING) {
+                    mountainCatalog.getMountainsInRegion(regionCode)
+                            .forEach(mountain -> targets.putIfAbsent(mountain.getId(), mountain));
+                }
+            });
+        }
+        return List.copyOf(targets.values());
+    }
 
-            log.info("산불위험예보 조회 성공: {}", result);
-            return result;
-
-        } catch (Exception e) {
-            log.error("산불위험예보 조회 실패", e);
-            return createErrorResponse("산불위험예보 조회 실패: " + e.getMessage());
+    /**
+     * 산 하나의 즐겨찾기 사용자에게 산불 위험 알림 발송
+     */
+    public void sendFireRiskAlert(Mountain mountain) {
+        Map<String, Object> riskData = getFireRiskInfo(mountain.getLocation());
+        if (riskData.containsKey("error") || riskData.get("riskLevel") == null) {
+            log.warn("⚠️ 산불위험예보 없음 - 알림 생략: mountainId={}, reason={}", mountain.getId(), riskData.get("message"));
+            return;
         }
+        sendAlertForMountain(mountain, riskData.get("riskLevel").toString(),
+                String.valueOf(riskData.get("description")));
     }
 
+    // ========== 📦 산불위험예보 스냅샷 (analdate 단위 캐시) ==========
+
     /**
-     * 🔥 산불 위험 알림 전송
+     * 주기적으로 스냅샷 갱신 - 외부 API 호출은 갱신 주기당 1회 (스케줄러 스레드에서는 완료까지 기다림)
      */
-    private void sendFireRiskAlert(String location, Map<String, Object> riskData) {
-        try {
-            log.info("🚨 산불 위험 알림 전송 시작: location={}", location);
+    @Scheduled(fixedDelayString = "${fire.snapshot.refresh-interval-ms:1800000}")
+    public void scheduledRefresh() {
+        refresh(true).block();
+    }
 
-            // 1. 해당 지역의 산들 조회
-            List<Mountain> mountainsInLocation = mountainRepository.findByNameOrLocationContaining(location);
+    /**
+     * 현재 스냅샷 반환 (기다리지 않음) - 없거나 너무 오래됐으면 백그라운드 갱신만 시작하고 기존 스냅샷 반환
+     */
+    private FireRiskSnapshot getSnapshot() {
+        FireRiskSnapshot current = snapshot.get();
+        if (current == null || !current.fetchedAt().plus(Duration.ofMillis(maxAgeMs)).isAfter(LocalDateTime.now())) {
+            refresh(false).subscribe();
+        }
+        return current;
+    }
 
-            if (mountainsInLocation.isEmpty()) {
-                log.info("📍 해당 지역에 등록된 산이 없습니다: {}", location);
-                return;
-            }
+    /**
+     * 단일 실행 갱신 - 이미 갱신 중이거나 최근 실패 후 백오프 중이면 호출하지 않음
+     * 실패해도 기존 스냅샷은 유지
+     */
+    private Mono<FireRiskSnapshot> refresh(boolean ignoreBackoff) {
+        if (!ignoreBackoff && System.currentTimeMillis() - lastFailureAtMs < failureBackoffMs) {
+            return Mono.empty();
+        }
+        if (!refreshing.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
 
-            String riskLevel = riskData.get("riskLevel").toString();
-            String description = riskData.get("description").toString();
+        return Mono.defer(this::callFireRiskApi)
+                .switchIfEmpty(Mono.error(new IllegalStateException("산불위험예보 API 응답이 비어 있음")))
+                .map(this::loadSnapshot)
+                .doOnNext(loaded -> lastFailureAtMs = 0)
+                .onErrorResume(e -> {
+                    lastFailureAtMs = System.currentTimeMillis();
+                    log.error("산불위험예보 스냅샷 갱신 실패 - 기존 스냅샷 유지, {}ms 동안 재호출 안 함: {}",
+                            failureBackoffMs, e.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> refreshing.set(false));
+    }
 
-            // 2. 각 산별로 즐겨찾기 사용자들에게 알림 전송
-            for (Mountain mountain : mountainsInLocation) {
-                try {
-                    sendAlertForMountain(mountain, riskLevel, description);
-                } catch (Exception e) {
-                    log.error("❌ 산별 알림 전송 실패: mountainId={}, mountainName={}",
-                            mountain.getId(), mountain.getName(), e);
+    private FireRiskSnapshot loadSnapshot(Map<String, Object> apiResponse) {
+        Map<String, Object> result = parseFireRiskResponse(apiResponse);
+        if (result.containsKey("error")) {
+            throw new IllegalStateException("산불위험예보 파싱 실패: " + result.get("message"));
+        }
+
+        String analdate = result.get("analdate") != null ? result.get("analdate").toString() : null;
+        FireRiskSnapshot current = snapshot.get();
+        FireRiskSnapshot next;
+        if (current != null && analdate != null && analdate.equals(current.analdate())) {
+            // 같은 분석 시점이면 기존 데이터 재사용 (조회 시각만 갱신)
+            next = new FireRiskSnapshot(analdate, current.result(), current.regionResults(),
+                    current.regionLevels(), LocalDateTime.now());
+        } else {
+            Map<String, Object> analdateValue = new HashMap<>();
+            analdateValue.put("analdate", analdate);
+
+            // 지역(시·도)별로 가장 높은 meanavg 를 대표값으로 사용
+            Map<String, Integer> regionMeanAvg = new HashMap<>();
+            for (Map<String, Object> item : extractItems(apiResponse)) {
+                String regionCode = RegionCode.normalize(asString(item.get("doname")));
+                Integer meanAvg = parseMeanAvg(item.get("meanavg"));
+                if (regionCode != null && meanAvg != null) {
+                    regionMeanAvg.merge(regionCode, meanAvg, Math::max);
                 }
             }
 
-            log.info("✅ 산불 위험 알림 전송 완료: location={}, 대상 산 {}개",
-                    location, mountainsInLocation.size());
-
-        } catch (Exception e) {
-            log.error("❌ 산불 위험 알림 전송 중 오류: location={}", location, e);
+            Map<String, Map<String, Object>> regionResults = new HashMap<>();
+            Map<String, FireRiskLevel> regionLevels = new HashMap<>();
+            regionMeanAvg.forEach((regionCode, meanAvg) -> {
+                Map<String, Object> regionResult = buildRiskResult(meanAvg, analdate);
+                regionResult.put("region", regionCode);
+                regionResults.put(regionCode, Collections.unmodifiableMap(regionResult));
+                regionLevels.put(regionCode, FireRiskLevel.fromMeanAvg(meanAvg));
+            });
+
+            next = new FireRiskSnapshot(analdate, Collections.unmodifiableMap(result),
+                    Collections.unmodifiableMap(regionResults), Collections.unmodifiableMap(regionLevels),
+                    LocalDateTime.now());
+            log.info("산불위험예보 스냅샷 갱신: analdate={}, riskLevel={}, 지역 {}개",
+                    analdate, result.get("riskLevel"), regionLevels.size());
         }
+
+        snapshot.set(next);
+        return next;
     }
 
     /**
@@ -175,75 +294,42 @@ public class FireRiskApiService {
 
     // ========== 기존 메서드들 (변경 없음) ==========
 
-    private Map<String, Object> callFireRiskApi() {
+    @SuppressWarnings("unchecked")
+    private Mono<Map<String, Object>> callFireRiskApi() {
         String url = apiUrl +
                 "?serviceKey=" + apiKey +
                 "&pageNo=1" +
-                "&numOfRows=10" +
+                "&numOfRows=" + numOfRows + // 지역별 item 전체 수신
                 "&_type=json";
 
         log.debug("산림청 API 호출: {}", url);
 
-        try {
-            Map<String, Object> response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            return response;
-
-        } catch (Exception e) {
-            log.error("API 호출 실패: {}", e.getMessage(), e);
-            return null;
-        }
+        return webClient.get()
+                .uri(url)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> (Map<String, Object>) response)
+                .timeout(Duration.ofMillis(apiTimeoutMs));
     }
 
     private Map<String, Object> parseFireRiskResponse(Map<String, Object> apiResponse) {
         try {
-            Map<String, Object> response = (Map<String, Object>) apiResponse.get("response");
-            if (response == null) {
-                return createErrorResponse("response 키가 없습니다");
-            }
-
-            Map<String, Object> body = (Map<String, Object>) response.get("body");
-            if (body == null) {
-                return createErrorResponse("body 키가 없습니다");
-            }
-
-            Map<String, Object> items = (Map<String, Object>) body.get("items");
-            if (items == null) {
-                return createErrorResponse("items 키가 없습니다");
-            }
-
-            Map<String, Object> item = (Map<String, Object>) items.get("item");
-            if (item == null) {
+            List<Map<String, Object>> items = extractItems(apiResponse);
+            if (items.isEmpty()) {
                 return createErrorResponse("산불위험예보 데이터가 없습니다");
             }
 
-            log.info("파싱할 item 데이터: {}", item);
+            // 전국 대표값은 기존과 같이 첫 번째 item 기준
+            Map<String, Object> item = items.get(0);
+            log.info("파싱할 item 데이터: {}건, 첫 item={}", items.size(), item);
 
-            Object meanAvgObj = item.get("meanavg");
-            if (meanAvgObj == null) {
+            Integer meanAvg = parseMeanAvg(item.get("meanavg"));
+            if (meanAvg == null) {
                 return createErrorResponse("위험도 데이터가 없습니다");
             }
 
-            int meanAvg = Integer.parseInt(meanAvgObj.toString());
-            String riskLevel = calculateRiskLevel(meanAvg);
-            String riskDescription = getRiskDescription(riskLevel);
-            String precautions = getPrecautions(riskLevel);
-
-            Map<String, Object> result = new HashMap<>();
-            result.put("riskLevel", riskLevel);
-            result.put("riskLevelCode", getRiskLevelCode(riskLevel));
-            result.put("meanAvg", meanAvg);
-            result.put("description", riskDescription);
-            result.put("precautions", precautions);
-            result.put("analdate", item.get("analdate"));
-            result.put("date", LocalDate.now().toString());
-            result.put("success", true);
-
-            log.info("산불위험예보 파싱 완료: meanAvg={}, riskLevel={}", meanAvg, riskLevel);
+            Map<String, Object> result = buildRiskResult(meanAvg, item.get("analdate"));
+            log.info("산불위험예보 파싱 완료: meanAvg={}, riskLevel={}", meanAvg, result.get("riskLevel"));
             return result;
 
         } catch (Exception e) {
@@ -252,14 +338,63 @@ public class FireRiskApiService {
         }
     }
 
-    private String calculateRiskLevel(int meanAvg) {
-        if (meanAvg < 30) {
-            return "안전";
-        } else if (meanAvg <= 50) {
-            return "주의";
-        } else {
-            return "경보";
+    /**
+     * response.body.items.item 추출 (item 이 1건이면 객체, 여러 건이면 배열로 옴)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> extractItems(Map<String, Object> apiResponse) {
+        Map<String, Object> response = (Map<String, Object>) apiResponse.get("response");
+        Map<String, Object> body = response == null ? null : (Map<String, Object>) response.get("body");
+        Object itemsObj = body == null ? null : body.get("items");
+        if (!(itemsObj instanceof Map)) {
+            return List.of();
+        }
+
+        Object item = ((Map<String, Object>) itemsObj).get("item");
+        if (item instanceof List<?> list) {
+            return list.stream()
+                    .filter(Map.class::isInstance)
+                    .map(element -> (Map<String, Object>) element)
+                    .toList();
+        }
+        if (item instanceof Map) {
+            return List.of((Map<String, Object>) item);
+        }
+        return List.of();
+    }
+
+    private Map<String, Object> buildRiskResult(int meanAvg, Object analdate) {
+        String riskLevel = calculateRiskLevel(meanAvg);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("riskLevel", riskLevel);
+        result.put("riskLevelCode", getRiskLevelCode(riskLevel));
+        result.put("meanAvg", meanAvg);
+        result.put("description", getRiskDescription(riskLevel));
+        result.put("precautions", getPrecautions(riskLevel));
+        result.put("analdate", analdate);
+        result.put("date", LocalDate.now().toString());
+        result.put("success", true);
+        return result;
+    }
+
+    private Integer parseMeanAvg(Object meanAvgObj) {
+        if (meanAvgObj == null) {
+            return null;
         }
+        try {
+            return (int) Math.round(Double.parseDouble(meanAvgObj.toString()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private String calculateRiskLevel(int meanAvg) {
+        return FireRiskLevel.fromMeanAvg(meanAvg).getLabel();
     }
 
     private String getRiskDescription(String riskLevel) {
@@ -289,16 +424,12 @@ public class FireRiskApiService {
     }
 
     private String getRiskLevelCode(String riskLevel) {
-        switch (riskLevel) {
-            case "안전":
-                return "1";
-            case "주의":
-                return "2";
-            case "경보":
-                return "3";
-            default:
-                return "0";
+        for (FireRiskLevel level : FireRiskLevel.values()) {
+            if (level.getLabel().equals(riskLevel)) {
+                return level.getCode();
+            }
         }
+        return "0";
     }
 
     private Map<String, Object> createErrorResponse(String message) {
@@ -307,4 +438,14 @@ public class FireRiskApiService {
         errorResponse.put("message", message);
         return errorResponse;
     }
+
+    /**
+     * 산불위험예보 스냅샷 (분석 시점 analdate 기준)
+     */
+    private record FireRiskSnapshot(String analdate,
+                                    Map<String, Object> result,
+                                    Map<String, Map<String, Object>> regionResults,
+                                    Map<String, FireRiskLevel> regionLevels,
+                                    LocalDateTime fetchedAt) {
+    }
 }
\ No newline at end of file
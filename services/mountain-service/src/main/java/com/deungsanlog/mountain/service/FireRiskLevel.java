@@ -0,0 +1,27 @@
+package com.deungsanlog.mountain.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 산불 위험 단계 (산림청 meanavg 기준)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FireRiskLevel {
+    SAFE("안전", "1"),
+    CAUTION("주의", "2"),
+    WARNING("경보", "3");
+
+    private final String label;
+    private final String code;
+
+    public static FireRiskLevel fromMeanAvg(int meanAvg) {
+        if (meanAvg < 30) {
+            return SAFE;
+        } else if (meanAvg <= 50) {
+            return CAUTION;
+        }
+        return WARNING;
+    }
+}
@@ -0,0 +1,179 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.dto.GridForecast;
+import com.deungsanlog.mountain.entity.Mountain;
+import com.deungsanlog.mountain.service.CoordinateConversionService.GridCoordinate;
+import com.deungsanlog.mountain.service.KmaForecastClient.BaseTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기상청 격자(nx, ny) 단위 단기예보 캐시
+ * - 유효기간은 발표시각(02/05/08/11/14/17/20/23시)에 맞춤: 새 발표가 나오기 전까지 같은 예보 재사용
+ * - 같은 격자 동시 요청은 하나의 API 호출로 합침 (진행 중인 future 공유)
+ * - 발표 직후 산이 있는 격자 전체를 한 번에 미리 갱신
+ */
+@Slf4j
+@Component
+public class GridWeatherCache {
+
+    private final KmaForecastClient forecastClient;
+    private final CoordinateConversionService coordinateService;
+    private final MountainCatalog mountainCatalog;
+    private final Map<GridKey, Entry> entries = new ConcurrentHashMap<>();
+    private final long waitTimeoutMs;
+    private final Duration retryBackoff;
+
+    public GridWeatherCache(KmaForecastClient forecastClient,
+                            CoordinateConversionService coordinateService,
+                            MountainCatalog mountainCatalog,
+                            @Value("${weather.cache.wait-timeout-ms:3000}") long waitTimeoutMs,
+                            @Value("${weather.cache.retry-backoff-ms:60000}") long retryBackoffMs) {
+        this.forecastClient = forecastClient;
+        this.coordinateService = coordinateService;
+        this.mountainCatalog = mountainCatalog;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+    }
+
+    /**
+     * 격자 예보 조회 (캐시 → 진행 중 호출 대기 → API 호출 순)
+     *
+     * @throws IllegalStateException 예보를 받지 못했고 이전 예보도 없는 경우
+     */
+    public GridForecast get(int nx, int ny) {
+        try {
+            return load(new GridKey(nx, ny)).get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("날씨 조회가 중단되었습니다", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("격자 예보 조회 실패: nx=" + nx + ", ny=" + ny, e);
+        }
+    }
+
+    /**
+     * 현재 발표시각 기준으로 API 호출이 필요한 격자인지 (캐시 적중이면 false)
+     * 정시 알림 작업이 호출량 제한 토큰을 실제 호출에만 쓰도록 확인용
+     */
+    public boolean needsRefresh(int nx, int ny) {
+        BaseTime base = KmaForecastClient.latestBaseTime(LocalDateTime.now(KmaForecastClient.KST));
+        Entry current = entries.get(new GridKey(nx, ny));
+        return current == null || !current.isUsable(base, retryBackoff);
+    }
+
+    /**
+     * 산이 있는 격자 전체 선갱신 (발표 10분 후 제공 → 15분에 실행)
+     * 격자 중복을 제거해 격자당 1회만 호출
+     */
+    @Scheduled(cron = "${weather.cache.prefetch-cron:0 15 2,5,8,11,14,17,20,23 * * *}", zone = "Asia/Seoul")
+    public void prefetch() {
+        Set<GridKey> cells = new LinkedHashSet<>();
+        for (Mountain mountain : mountainCatalog.getMountains()) {
+            if (mountain.getLatitude() == null || mountain.getLongitude() == null) {
+                continue;
+            }
+            GridCoordinate grid = coordinateService.convertToGrid(mountain.getLongitude(), mountain.getLatitude());
+            cells.add(new GridKey(grid.x, grid.y));
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int failed = 0;
+        for (GridKey cell : cells) {
+            try {
+                load(cell).join();
+            } catch (Exception e) {
+                failed++;
+                log.warn("⚠️ 격자 예보 선갱신 실패: {}, error={}", cell, e.getMessage());
+            }
+        }
+
+        log.info("🌤️ 격자 예보 선갱신 완료: 격자 {}개 (산 {}개), 실패 {}개, {}ms",
+                cells.size(), mountainCatalog.getMountains().size(), failed,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private CompletableFuture<GridForecast> load(GridKey key) {
+        BaseTime base = KmaForecastClient.latestBaseTime(LocalDateTime.now(KmaForecastClient.KST));
+        Entry[] created = new Entry[1];
+
+        Entry entry = entries.compute(key, (k, current) -> {
+            if (current != null && current.isUsable(base, retryBackoff)) {
+                return current;
+            }
+            created[0] = new Entry(base, new CompletableFuture<>(), current == null ? null : current.lastValue());
+            return created[0];
+        });
+
+        // 이 스레드가 만든 엔트리만 실제 호출 (compute 밖에서 수행해 맵 잠금을 오래 잡지 않음)
+        if (created[0] == entry) {
+            fetch(key, entry);
+        }
+        return entry.future();
+    }
+
+    private void fetch(GridKey key, Entry entry) {
+        try {
+            entry.future().complete(forecastClient.fetch(key.nx(), key.ny(), entry.base()));
+        } catch (Exception e) {
+            if (entry.previous() != null) {
+                // 새 발표 수신 실패 시 이전 예보로 응답, retryBackoff 후 재시도
+                log.warn("⚠️ 기상청 예보 갱신 실패, 이전 예보 사용: {}, error={}", key, e.getMessage());
+                entry.future().complete(entry.previous());
+            } else {
+                log.error("❌ 기상청 예보 조회 실패: {}, error={}", key, e.getMessage());
+                entry.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record GridKey(int nx, int ny) {
+    }
+
+    /**
+     * 격자별 캐시 항목
+     * base: 이 항목이 목표로 한 발표시각, previous: 갱신 실패 시 대신 돌려줄 직전 예보
+     */
+    private record Entry(BaseTime base, CompletableFuture<GridForecast> future,
+                         GridForecast previous, Instant createdAt) {
+
+        Entry(BaseTime base, CompletableFuture<GridForecast> future, GridForecast previous) {
+            this(base, future, previous, Instant.now());
+        }
+
+        boolean isUsable(BaseTime latest, Duration retryBackoff) {
+            if (!future.isDone()) {
+                return true; // 진행 중인 호출에 합류
+            }
+            if (base.equals(latest) && !future.isCompletedExceptionally() && !servedStale()) {
+                return true;
+            }
+            // 실패(또는 이전 예보로 대체)한 지 얼마 안 됐으면 재호출하지 않음
+            return Instant.now().isBefore(createdAt.plus(retryBackoff));
+        }
+
+        GridForecast lastValue() {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                return future.join();
+            }
+            return previous;
+        }
+
+        private boolean servedStale() {
+            GridForecast value = future.join();
+            return !(value.baseDate().equals(base.date()) && value.baseTime().equals(base.time()));
+        }
+    }
+}
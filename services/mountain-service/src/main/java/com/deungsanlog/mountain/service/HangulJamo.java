@@ -0,0 +1,71 @@
+package com.deungsanlog.mountain.service;
+
+/**
+ * 한글 음절 분해 (초성/중성/종성) - 자동완성 초성·입력 중 음절 매칭용
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    // 초성 19자 (호환 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    public static boolean isChoseong(char c) {
+        for (char choseong : CHOSEONG) {
+            if (choseong == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 음절이면 초성(호환 자모), 아니면 그대로
+     */
+    public static char choseong(char c) {
+        return isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)] : c;
+    }
+
+    /**
+     * 받침이 없는 음절인지 ("하" → true, "한" → false)
+     */
+    public static boolean hasNoFinal(char c) {
+        return isSyllable(c) && (c - SYLLABLE_BASE) % JONG_COUNT == 0;
+    }
+
+    /**
+     * 두 음절의 초성+중성이 같은지 ("하" / "한")
+     */
+    public static boolean sameInitialAndMedial(char a, char b) {
+        return isSyllable(a) && isSyllable(b)
+                && (a - SYLLABLE_BASE) / JONG_COUNT == (b - SYLLABLE_BASE) / JONG_COUNT;
+    }
+
+    /**
+     * 입력 중인 마지막 글자 매칭
+     * - 초성만 입력 ("ㅂ") → 초성이 같은 음절
+     * - 받침 없이 입력 중 ("하") → 초성·중성이 같은 음절 ("한", "할" 등)
+     */
+    public static boolean matchesPartial(char query, char target) {
+        if (query == target) {
+            return true;
+        }
+        if (isChoseong(query)) {
+            return choseong(target) == query;
+        }
+        return hasNoFinal(query) && sameInitialAndMedial(query, target);
+    }
+}
@@ -0,0 +1,189 @@
+package com.deungsanlog.mountain.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 산 설명 HTML 텍스트 정리 (한 번 훑기)
+ * 기존 replaceAll 14단계와 같은 규칙을 공백 구간 단위로 한 번에 적용
+ * - 탭/CR 제거, 공백·nbsp 연속은 공백 1개, 연속 줄바꿈은 1개로 합치고 줄바꿈 앞뒤 공백 제거
+ * - 태그 사이(><), 태그 괄호 안쪽(< 뒤, > 앞), <br> 앞뒤, </td></th></tr> 뒤, 문장부호(.,:;) 앞 공백 제거
+ *   (태그 괄호 규칙은 기존처럼 nbsp 를 공백으로 보지 않음 - nbsp 가 섞이면 nbsp 부분은 공백으로 남김)
+ * - " - ", " (", ") " 형태로 정리, <br/>·<br /> 는 <br> 로 통일, 앞뒤 공백 제거
+ */
+public final class HtmlTextCleaner {
+
+    // 규칙이 바뀌면 올려서 저장된 정리본을 다시 만들게 함
+    public static final int VERSION = 2;
+
+    private HtmlTextCleaner() {
+    }
+
+    public static String clean(String htmlText) {
+        if (htmlText == null || htmlText.trim().isEmpty()) {
+            return htmlText;
+        }
+
+        String text = HtmlUtils.htmlUnescape(htmlText);
+        int length = text.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean spacedDash = false;
+
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+
+            if (!isWhitespace(c)) {
+                if (c == '<' && text.startsWith("<br", i)) {
+                    int end = brTagEnd(text, i);
+                    if (end > 0) {
+                        out.append("<br>");
+                        i = end;
+                        continue;
+                    }
+                }
+                out.append(c);
+                i++;
+                continue;
+            }
+
+            // 공백 구간 [i, j) 수집
+            int start = i;
+            int j = i;
+            boolean visible = false;
+            int firstNbsp = -1;
+            int lastNbsp = -1;
+            while (j < length && isWhitespace(text.charAt(j))) {
+                char w = text.charAt(j);
+                if (w == '\u00A0') {
+                    firstNbsp = firstNbsp < 0 ? j : firstNbsp;
+                    lastNbsp = j;
+                }
+                visible |= w != '\t' && w != '\r';
+                j++;
+            }
+            i = j;
+            if (!visible) {
+                continue; // 탭/CR 만 있던 구간은 그대로 제거
+            }
+
+            char next = j < length ? text.charAt(j) : 0;
+            boolean afterDash = spacedDash;
+            // 공백 - 공백 → " - " (대시 뒤 공백이 남는 경우만)
+            boolean dash = !afterDash && next == '-' && keepsSpaceAfter(text, j + 1);
+            spacedDash = false;
+
+            if (out.length() == 0 || next == 0) {
+                spacedDash = dash && out.length() == 0 && next != 0;
+                continue; // 앞뒤 공백
+            }
+            char prev = out.charAt(out.length() - 1);
+
+            // 태그 괄호 규칙: nbsp 가 없으면 구간 전체 제거, 있으면 < 뒤는 첫 nbsp 부터, > 앞은 마지막 nbsp 까지만 남김
+            int end = j;
+            if (firstNbsp < 0) {
+                if ((prev == '>' && next == '<') || next == '>' || prev == '<') {
+                    continue;
+                }
+            } else {
+                start = prev == '<' ? firstNbsp : start;
+                end = next == '>' ? lastNbsp + 1 : end;
+            }
+            int newlines = newlineGroups(text, start, end);
+
+            if (endsWith(out, "<br>") || brTagEnd(text, j) > 0
+                    || endsWith(out, "</td>") || endsWith(out, "</th>") || endsWith(out, "</tr>")
+                    || isPunctuation(next)) {
+                continue;
+            }
+
+            spacedDash = dash;
+            if (dash || afterDash || next == '(' || prev == ')') {
+                out.append(' ');
+            } else {
+                out.append(newlines == 0 ? " " : "\n".repeat(newlines));
+            }
+        }
+
+        return out.toString().trim();
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\u00A0' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+    }
+
+    /**
+     * 공백으로 나뉜 줄바꿈 묶음 수 (연속 줄바꿈과 사이의 탭/CR 은 1개)
+     */
+    private static int newlineGroups(String text, int from, int to) {
+        int groups = 0;
+        boolean inNewline = false;
+        for (int k = from; k < to; k++) {
+            char w = text.charAt(k);
+            if (w == '\n') {
+                groups += inNewline ? 0 : 1;
+                inNewline = true;
+            } else if (w != '\t' && w != '\r') {
+                inNewline = false;
+            }
+        }
+        return groups;
+    }
+
+    private static boolean isPunctuation(char c) {
+        return c == '.' || c == ',' || c == ':' || c == ';';
+    }
+
+    /**
+     * i 부터 시작하는 공백 구간이 정리 후에도 공백으로 남는지 (대시 규칙 판단용)
+     */
+    private static boolean keepsSpaceAfter(String text, int i) {
+        int k = i;
+        boolean visible = false;
+        boolean nbsp = false;
+        while (k < text.length() && isWhitespace(text.charAt(k))) {
+            char w = text.charAt(k);
+            visible |= w != '\t' && w != '\r';
+            nbsp |= w == '\u00A0';
+            k++;
+        }
+        if (!visible) {
+            return false;
+        }
+        if (k >= text.length()) {
+            return true; // 끝 공백 (마지막에 trim)
+        }
+        char next = text.charAt(k);
+        return (next != '>' || nbsp) && !isPunctuation(next) && brTagEnd(text, k) < 0;
+    }
+
+    private static boolean endsWith(StringBuilder out, String suffix) {
+        int start = out.length() - suffix.length();
+        return start >= 0 && out.indexOf(suffix, start) == start;
+    }
+
+    /**
+     * i 위치의 <br>, <br/>, <br /> 태그 끝 위치 (아니면 -1)
+     * 기존 규칙이 <br> 로 바꾸던 형태만 인정: > 바로 앞 공백은 nbsp 가 아니어야 하고, / 앞 공백에는 줄바꿈이 없어야 함
+     */
+    private static int brTagEnd(String text, int i) {
+        if (!text.startsWith("<br", i)) {
+            return -1;
+        }
+        int k = i + 3;
+        int slash = k;
+        while (slash < text.length() && isInlineSpace(text.charAt(slash))) {
+            slash++;
+        }
+        if (slash < text.length() && text.charAt(slash) == '/') {
+            k = slash + 1;
+        }
+        while (k < text.length() && isWhitespace(text.charAt(k)) && text.charAt(k) != '\u00A0') {
+            k++;
+        }
+        return k < text.length() && text.charAt(k) == '>' ? k + 1 : -1;
+    }
+
+    private static boolean isInlineSpace(char c) {
+        return c == ' ' || c == '\u00A0' || c == '\t' || c == '\r';
+    }
+}
@@ -0,0 +1,252 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.dto.GridForecast;
+import com.deungsanlog.mountain.dto.GridForecast.DailyForecast;
+import com.deungsanlog.mountain.dto.GridForecast.HourlyForecast;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기상청 단기예보(getVilageFcst) 호출 + 응답을 GridForecast 로 변환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KmaForecastClient {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 단기예보 발표시각 (API 제공은 발표 약 10분 후부터)
+    private static final int[] BASE_HOURS = {2, 5, 8, 11, 14, 17, 20, 23};
+    private static final Duration PUBLISH_DELAY = Duration.ofMinutes(10);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final WebClient webClient;
+
+    @Value("${weather.api.key:YOUR_WEATHER_API_KEY}")
+    private String apiKey;
+
+    @Value("${weather.api.url:http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getVilageFcst}")
+    private String apiUrl;
+
+    @Value("${weather.api.timeout-ms:2500}")
+    private long timeoutMs;
+
+    /**
+     * 현재 시각 기준 가장 최근에 제공되는 발표시각
+     */
+    public static BaseTime latestBaseTime(LocalDateTime now) {
+        LocalDateTime available = now.minus(PUBLISH_DELAY);
+        LocalDate date = available.toLocalDate();
+        int hour = available.getHour();
+
+        for (int i = BASE_HOURS.length - 1; i >= 0; i--) {
+            if (hour >= BASE_HOURS[i]) {
+                return new BaseTime(date.format(DATE), String.format("%02d00", BASE_HOURS[i]));
+            }
+        }
+        // 02시 발표 전이면 전날 23시 발표
+        return new BaseTime(date.minusDays(1).format(DATE), "2300");
+    }
+
+    /**
+     * 격자 한 칸의 단기예보 조회
+     *
+     * @throws IllegalStateException API 오류/응답 형식 이상
+     */
+    public GridForecast fetch(int nx, int ny, BaseTime base) {
+        String url = apiUrl +
+                "?serviceKey=" + apiKey +
+                "&numOfRows=1000" + // 발표 1회분 전체 (약 3일 x 12개 항목)
+                "&pageNo=1" +
+                "&dataType=JSON" +
+                "&base_date=" + base.date() +
+                "&base_time=" + base.time() +
+                "&nx=" + nx +
+                "&ny=" + ny;
+
+        log.debug("기상청 단기예보 API 호출: nx={}, ny={}, base={} {}", nx, ny, base.date(), base.time());
+
+        Map<String, Object> response = webClient.get()
+                .uri(url)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block(Duration.ofMillis(timeoutMs));
+
+        return parse(nx, ny, base, extractItems(response));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> extractItems(Map<String, Object> apiResponse) {
+        if (apiResponse == null) {
+            throw new IllegalStateException("기상청 API 응답이 null입니다");
+        }
+
+        Map<String, Object> response = (Map<String, Object>) apiResponse.get("response");
+        Map<String, Object> header = response == null ? null : (Map<String, Object>) response.get("header");
+        if (header != null && !"00".equals(String.valueOf(header.get("resultCode")))) {
+            throw new IllegalStateException("기상청 API 오류: " + header.get("resultMsg"));
+        }
+
+        Map<String, Object> body = response == null ? null : (Map<String, Object>) response.get("body");
+        Map<String, Object> items = body == null ? null : (Map<String, Object>) body.get("items");
+        Object item = items == null ? null : items.get("item");
+        if (!(item instanceof List<?> list)) {
+            throw new IllegalStateException("기상청 예보 데이터가 없습니다");
+        }
+        return (List<Map<String, Object>>) list;
+    }
+
+    private GridForecast parse(int nx, int ny, BaseTime base, List<Map<String, Object>> items) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        Map<LocalDate, DayAccumulator> days = new TreeMap<>();
+
+        for (Map<String, Object> item : items) {
+            String category = String.valueOf(item.get("category"));
+            String fcstDate = String.valueOf(item.get("fcstDate"));
+            String fcstTime = String.valueOf(item.get("fcstTime"));
+            String value = String.valueOf(item.get("fcstValue"));
+
+            LocalDate date = LocalDate.parse(fcstDate, DATE);
+            LocalTime time = LocalTime.of(Integer.parseInt(fcstTime.substring(0, 2)), 0);
+
+            days.computeIfAbsent(date, DayAccumulator::new).accept(category, time, value);
+        }
+
+        List<DailyForecast> daily = new ArrayList<>();
+        days.values().forEach(day -> daily.add(day.toForecast()));
+        return new GridForecast(nx, ny, base.date(), base.time(), now, List.copyOf(daily));
+    }
+
+    /**
+     * 강수량 문자열 해석 ("강수없음", "1mm 미만", "1.0mm", "30.0~50.0mm", "50.0mm 이상")
+     */
+    static double parsePrecipitation(String value) {
+        if (value == null || value.contains("없음")) {
+            return 0.0;
+        }
+        if (value.contains("미만")) {
+            return 0.5;
+        }
+        String number = value.split("~")[0].replaceAll("[^0-9.]", "");
+        return number.isEmpty() ? 0.0 : Double.parseDouble(number);
+    }
+
+    private static Double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 발표시각 (base_date, base_time)
+     */
+    public record BaseTime(String date, String time) {
+    }
+
+    /**
+     * 하루치 예보 행을 모아 DailyForecast 로 접는 누적기
+     */
+    private static final class DayAccumulator {
+        private final LocalDate date;
+        // 시각별 TMP/REH/SKY (대표 시각은 응답할 때 고름)
+        private final Map<LocalTime, Map<String, Double>> hourly = new TreeMap<>();
+        private Double minTemperature;
+        private Double maxTemperature;
+        private Double tmn;
+        private Double tmx;
+        private Double maxWindSpeed;
+        private double precipitation;
+        private Integer maxPop;
+        private int precipitationType;
+
+        private DayAccumulator(LocalDate date) {
+            this.date = date;
+        }
+
+        private void accept(String category, LocalTime time, String value) {
+            switch (category) {
+                case "TMP", "REH", "SKY" -> {
+                    Double v = parseDouble(value);
+                    if (v == null) {
+                        return;
+                    }
+                    hourly.computeIfAbsent(time, key -> new HashMap<>()).put(category, v);
+                    if ("TMP".equals(category)) {
+                        // TMN/TMX 가 없는 날(발표 이후 남은 시간만 있는 경우) 대비
+                        minTemperature = minTemperature == null ? v : Math.min(minTemperature, v);
+                        maxTemperature = maxTemperature == null ? v : Math.max(maxTemperature, v);
+                    }
+                }
+                case "TMN" -> tmn = parseDouble(value);
+                case "TMX" -> tmx = parseDouble(value);
+                case "WSD" -> {
+                    Double v = parseDouble(value);
+                    if (v != null) maxWindSpeed = maxWindSpeed == null ? v : Math.max(maxWindSpeed, v);
+                }
+                case "PCP" -> precipitation += parsePrecipitation(value);
+                case "POP" -> {
+                    Double v = parseDouble(value);
+                    if (v != null) maxPop = maxPop == null ? v.intValue() : Math.max(maxPop, v.intValue());
+                }
+                case "PTY" -> {
+                    Double v = parseDouble(value);
+                    if (v != null && severity(v.intValue()) > severity(precipitationType)) {
+                        precipitationType = v.intValue();
+                    }
+                }
+                default -> {
+                    // UUU, VVV, VEC, WAV, SNO 등은 사용하지 않음
+                }
+            }
+        }
+
+        // 눈 > 비/눈 > 비 > 소나기 > 없음
+        private static int severity(int pty) {
+            return switch (pty) {
+                case 3 -> 4;
+                case 2 -> 3;
+                case 1 -> 2;
+                case 4 -> 1;
+                default -> 0;
+            };
+        }
+
+        private DailyForecast toForecast() {
+            List<HourlyForecast> hours = new ArrayList<>(hourly.size());
+            hourly.forEach((time, values) -> {
+                Double humidity = values.get("REH");
+                Double sky = values.get("SKY");
+                hours.add(new HourlyForecast(time, values.get("TMP"),
+                        humidity == null ? null : humidity.intValue(),
+                        sky == null ? 0 : sky.intValue()));
+            });
+            return new DailyForecast(
+                    date,
+                    List.copyOf(hours),
+                    tmn != null ? tmn : minTemperature,
+                    tmx != null ? tmx : maxTemperature,
+                    maxWindSpeed,
+                    Math.round(precipitation * 10) / 10.0,
+                    maxPop,
+                    precipitationType);
+        }
+    }
+}
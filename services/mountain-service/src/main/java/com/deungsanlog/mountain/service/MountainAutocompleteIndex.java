@@ -0,0 +1,213 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.client.RecordServiceClient;
+import com.deungsanlog.mountain.dto.HotMountainResponse;
+import com.deungsanlog.mountain.dto.MountainAutocompleteResponse;
+import com.deungsanlog.mountain.entity.Mountain;
+import com.deungsanlog.mountain.event.MountainCatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 산 이름/지역 자동완성 인덱스
+ * - 초성 unigram 역색인: 글자마다 초성을 키로 산 번호를 모아둠 → 검색어 첫 글자의 초성으로 후보만 추림
+ * - 초성 검색("ㅂㅎㅅ"), 입력 중 음절("북하" → 북한산) 매칭
+ * - 정렬: 이름 앞부분 일치 > 이름 포함 > 지역 일치, 같은 등급은 인기(최근 한 달 등산 기록 수) 순
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MountainAutocompleteIndex {
+
+    private static final int POPULARITY_LIMIT = 1000;
+
+    private final RecordServiceClient recordServiceClient;
+
+    private volatile Index index = Index.EMPTY;
+    private volatile Map<Long, Long> popularity = Map.of();
+
+    @EventListener
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        Index next = Index.build(event.getMountains());
+        index = next;
+        log.info("🔎 산 자동완성 인덱스 재구성: version={}, 산 {}개, 키 {}개",
+                event.getVersion(), next.entries.length, next.postings.size());
+    }
+
+    /**
+     * 인기도 갱신 (record-service 최근 한 달 등산 기록 수) - 실패 시 기존 값 유지
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${mountain.autocomplete.popularity-refresh-ms:3600000}")
+    public void refreshPopularity() {
+        try {
+            Map<Long, Long> next = new HashMap<>();
+            for (HotMountainResponse hot : recordServiceClient.getHotMountains(POPULARITY_LIMIT)) {
+                next.put(hot.mountainId(), hot.recordCount());
+            }
+            popularity = Map.copyOf(next);
+            log.info("🔎 자동완성 인기도 갱신: {}개 산", next.size());
+        } catch (Exception e) {
+            log.warn("⚠️ 자동완성 인기도 갱신 실패 - 기존 값 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색어로 상위 limit 개 산
+     */
+    public List<MountainAutocompleteResponse> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Index current = index;
+        int[] candidates = current.postings.get(HangulJamo.choseong(query.charAt(0)));
+        if (candidates == null) {
+            return List.of();
+        }
+
+        Map<Long, Long> scores = popularity;
+        Comparator<Match> order = Comparator
+                .comparingInt(Match::grade)
+                .thenComparingLong(match -> -scores.getOrDefault(match.entry().mountain().getId(), 0L))
+                .thenComparingInt(match -> match.entry().name().length())
+                .thenComparingLong(match -> match.entry().mountain().getId());
+
+        // 상위 limit 개만 유지 (가장 나쁜 결과가 머리에 오도록 역순)
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, order.reversed());
+        for (int candidate : candidates) {
+            Entry entry = current.entries[candidate];
+            Match match = match(entry, query);
+            if (match == null) {
+                continue;
+            }
+            top.add(match);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Match> sorted = new ArrayList<>(top);
+        sorted.sort(order);
+        return sorted.stream()
+                .map(match -> new MountainAutocompleteResponse(
+                        match.entry().mountain().getId(),
+                        match.entry().mountain().getName(),
+                        match.entry().mountain().getLocation(),
+                        match.grade() <= 1 ? "NAME" : "LOCATION"))
+                .toList();
+    }
+
+    private Match match(Entry entry, String query) {
+        int namePosition = indexOf(entry.name(), query);
+        if (namePosition == 0) {
+            return new Match(entry, 0);
+        }
+        if (namePosition > 0) {
+            return new Match(entry, 1);
+        }
+        if (indexOf(entry.location(), query) >= 0) {
+            return new Match(entry, 2);
+        }
+        return null;
+    }
+
+    /**
+     * 초성/입력 중 음절을 고려한 부분 문자열 위치 (없으면 -1)
+     */
+    static int indexOf(String target, String query) {
+        int last = query.length() - 1;
+        for (int start = 0; start + last < target.length(); start++) {
+            int i = 0;
+            while (i <= last && matchesAt(query.charAt(i), target.charAt(start + i), i == last)) {
+                i++;
+            }
+            if (i > last) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesAt(char query, char target, boolean last) {
+        if (last) {
+            return HangulJamo.matchesPartial(query, target);
+        }
+        if (HangulJamo.isChoseong(query)) {
+            return HangulJamo.choseong(target) == query;
+        }
+        return query == target;
+    }
+
+    /**
+     * 공백 제거 + 소문자
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(Mountain mountain, String name, String location) {
+    }
+
+    private record Match(Entry entry, int grade) {
+    }
+
+    private static final class Index {
+        private static final Index EMPTY = new Index(new Entry[0], Map.of());
+
+        private final Entry[] entries;
+        private final Map<Character, int[]> postings;
+
+        private Index(Entry[] entries, Map<Character, int[]> postings) {
+            this.entries = entries;
+            this.postings = postings;
+        }
+
+        private static Index build(List<Mountain> mountains) {
+            Entry[] entries = new Entry[mountains.size()];
+            Map<Character, Set<Integer>> keys = new HashMap<>();
+            for (int i = 0; i < entries.length; i++) {
+                Mountain mountain = mountains.get(i);
+                Entry entry = new Entry(mountain, normalize(mountain.getName()), normalize(mountain.getLocation()));
+                entries[i] = entry;
+                addKeys(keys, entry.name(), i);
+                addKeys(keys, entry.location(), i);
+            }
+
+            Map<Character, int[]> postings = new HashMap<>();
+            keys.forEach((key, ids) -> postings.put(key, ids.stream().mapToInt(Integer::intValue).toArray()));
+            postings.values().forEach(Arrays::sort);
+            return new Index(entries, Map.copyOf(postings));
+        }
+
+        private static void addKeys(Map<Character, Set<Integer>> keys, String text, int id) {
+            for (int i = 0; i < text.length(); i++) {
+                keys.computeIfAbsent(HangulJamo.choseong(text.charAt(i)), key -> new LinkedHashSet<>()).add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.entity.Mountain;
+import com.deungsanlog.mountain.event.MountainCatalogChangedEvent;
+import com.deungsanlog.mountain.region.RegionCode;
+import com.deungsanlog.mountain.repository.MountainRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 산 목록 메모리 스냅샷 + 지역(시·도) → 산 인덱스
+ * - 시작 시 한 번 적재하고, 주기적으로 다시 읽어 내용이 바뀐 경우에만 교체 후 MountainCatalogChangedEvent 발행
+ *   (내용 비교는 직렬화한 JSON 의 해시 → 응답에 나가는 필드가 하나라도 바뀌면 교체)
+ * - 조회는 불변 스냅샷을 읽기만 하므로 SQL 없이 해시 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MountainCatalog {
+
+    private final MountainRepository mountainRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${mountain.catalog.refresh-interval-ms:600000}",
+            fixedDelayString = "${mountain.catalog.refresh-interval-ms:600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * 산 목록 다시 읽기 (내용이 같으면 교체하지 않음)
+     *
+     * @return 스냅샷이 교체됐는지 여부
+     */
+    public synchronized boolean reload() {
+        try {
+            List<Mountain> mountains = mountainRepository.findAll();
+            String fingerprint = fingerprint(mountains);
+            if (snapshot.version > 0 && snapshot.fingerprint.equals(fingerprint)) {
+                return false;
+            }
+
+            Snapshot next = Snapshot.build(snapshot.version + 1, fingerprint, mountains);
+            snapshot = next;
+            log.info("🏔️ 산 목록 적재 완료: version={}, 산 {}개, 지역 {}개",
+                    next.version, mountains.size(), next.mountainIdsByRegion.size());
+
+            eventPublisher.publishEvent(new MountainCatalogChangedEvent(next.version, next.mountains));
+            return true;
+        } catch (Exception e) {
+            log.error("❌ 산 목록 적재 실패 - 기존 스냅샷 유지", e);
+            return false;
+        }
+    }
+
+    public List<Mountain> getMountains() {
+        return snapshot.mountains;
+    }
+
+    public Mountain getMountain(Long mountainId) {
+        return snapshot.mountainsById.get(mountainId);
+    }
+
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * 지역 코드(RegionCode)에 속한 산 ID 목록
+     */
+    public List<Long> getMountainIdsInRegion(String regionCode) {
+        return snapshot.mountainIdsByRegion.getOrDefault(regionCode, List.of());
+    }
+
+    public List<Mountain> getMountainsInRegion(String regionCode) {
+        Snapshot current = snapshot;
+        return current.mountainIdsByRegion.getOrDefault(regionCode, List.of()).stream()
+                .map(current.mountainsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 산 목록을 JSON 으로 직렬화한 바이트의 MD5 (직렬화되는 모든 필드 포함)
+     */
+    private String fingerprint(List<Mountain> mountains) throws JsonProcessingException {
+        return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(mountains));
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(0, "", List.of(), Map.of(), Map.of());
+
+        private final long version;
+        private final String fingerprint;
+        private final List<Mountain> mountains;
+        private final Map<Long, Mountain> mountainsById;
+        private final Map<String, List<Long>> mountainIdsByRegion;
+
+        private Snapshot(long version, String fingerprint, List<Mountain> mountains,
+                         Map<Long, Mountain> mountainsById, Map<String, List<Long>> mountainIdsByRegion) {
+            this.version = version;
+            this.fingerprint = fingerprint;
+            this.mountains = mountains;
+            this.mountainsById = mountainsById;
+            this.mountainIdsByRegion = mountainIdsByRegion;
+        }
+
+        private static Snapshot build(long version, String fingerprint, List<Mountain> mountains) {
+            Map<Long, Mountain> byId = new HashMap<>();
+            Map<String, List<Long>> byRegion = new HashMap<>();
+            for (Mountain mountain : mountains) {
+                byId.put(mountain.getId(), mountain);
+                for (String code : RegionCode.fromLocation(mountain.getLocation())) {
+                    byRegion.computeIfAbsent(code, key -> new ArrayList<>()).add(mountain.getId());
+                }
+            }
+            byRegion.replaceAll((code, ids) -> List.copyOf(ids));
+
+            return new Snapshot(version, fingerprint, Collections.unmodifiableList(new ArrayList<>(mountains)),
+                    Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byRegion));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.entity.MountainDescription;
+import com.deungsanlog.mountain.entity.MountainDescriptionCleaned;
+import com.deungsanlog.mountain.event.MountainCatalogChangedEvent;
+import com.deungsanlog.mountain.repository.MountainDescriptionCleanedRepository;
+import com.deungsanlog.mountain.repository.MountainDescriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 산 설명 HTML 정리본 적재
+ * - 산 목록이 바뀔 때/매일 새벽에 원문과 정리본 해시를 비교해 바뀐 설명만 다시 정리해 저장
+ * - 상세 조회는 원문 해시가 같은 정리본만 쓰고, 원문 엔티티는 수정하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MountainDescriptionNormalizer {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final MountainDescriptionRepository mountainDescriptionRepository;
+    private final MountainDescriptionCleanedRepository cleanedRepository;
+
+    @EventListener(MountainCatalogChangedEvent.class)
+    public void onCatalogChanged() {
+        normalizeAll();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void scheduledNormalize() {
+        normalizeAll();
+    }
+
+    /**
+     * 원문이 바뀌었거나 정리본이 없는 설명만 정리해서 저장
+     *
+     * @return 새로 저장한 정리본 수
+     */
+    public synchronized int normalizeAll() {
+        try {
+            Map<Long, String> storedHashes = new HashMap<>();
+            for (Object[] row : cleanedRepository.findAllSourceHashes()) {
+                storedHashes.put((Long) row[0], (String) row[1]);
+            }
+
+            int updated = 0;
+            int pageNumber = 0;
+            Page<MountainDescription> page;
+            do {
+                page = mountainDescriptionRepository.findAll(PageRequest.of(pageNumber++, PAGE_SIZE, Sort.by("id")));
+                List<MountainDescriptionCleaned> changed = new ArrayList<>();
+                for (MountainDescription description : page.getContent()) {
+                    String hash = sourceHash(description);
+                    if (!hash.equals(storedHashes.get(description.getMountainId()))) {
+                        changed.add(clean(description, hash));
+                    }
+                }
+                cleanedRepository.saveAll(changed);
+                updated += changed.size();
+            } while (page.hasNext());
+
+            if (updated > 0) {
+                log.info("🧹 산 설명 정리본 갱신: {}건", updated);
+            }
+            return updated;
+        } catch (Exception e) {
+            log.error("❌ 산 설명 정리본 갱신 실패", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 상세 조회용 정리된 설명
+     * 원문 해시와 정리본의 source_hash 가 같을 때만 정리본을 쓰고, 없거나 다르면(원문 수정, 규칙 버전 변경) 그 자리에서 정리 후 저장
+     */
+    public MountainDescription getCleanedDescription(Long mountainId) {
+        return mountainDescriptionRepository.findByMountainId(mountainId)
+                .map(description -> {
+                    String hash = sourceHash(description);
+                    return cleanedRepository.findById(mountainId)
+                            .filter(cleaned -> hash.equals(cleaned.getSourceHash()))
+                            .map(MountainDescriptionCleaned::toDescription)
+                            .orElseGet(() -> cleanAndStore(description, hash));
+                })
+                .orElse(null);
+    }
+
+    private MountainDescription cleanAndStore(MountainDescription description, String hash) {
+        MountainDescriptionCleaned cleaned = clean(description, hash);
+        try {
+            cleanedRepository.save(cleaned);
+        } catch (Exception e) {
+            log.warn("⚠️ 산 설명 정리본 저장 실패: mountainId={}, error={}", description.getMountainId(), e.getMessage());
+        }
+        return cleaned.toDescription();
+    }
+
+    private MountainDescriptionCleaned clean(MountainDescription description, String hash) {
+        MountainDescriptionCleaned cleaned = new MountainDescriptionCleaned();
+        cleaned.setMountainId(description.getMountainId());
+        cleaned.setDescriptionId(description.getId());
+        cleaned.setSummary(HtmlTextCleaner.clean(description.getSummary()));
+        cleaned.setFullDescription(HtmlTextCleaner.clean(description.getFullDescription()));
+        cleaned.setNearbyTourInfo(HtmlTextCleaner.clean(description.getNearbyTourInfo()));
+        cleaned.setDifficulty(HtmlTextCleaner.clean(description.getDifficulty()));
+        cleaned.setHikingPointInfo(HtmlTextCleaner.clean(description.getHikingPointInfo()));
+        cleaned.setHikingCourseInfo(HtmlTextCleaner.clean(description.getHikingCourseInfo()));
+        cleaned.setTransportInfo(HtmlTextCleaner.clean(description.getTransportInfo()));
+        cleaned.setSourceHash(hash);
+        cleaned.setCleanedAt(LocalDateTime.now());
+        return cleaned;
+    }
+
+    private String sourceHash(MountainDescription description) {
+        String source = String.join("\u0000",
+                String.valueOf(HtmlTextCleaner.VERSION),
+                String.valueOf(description.getId()),
+                Objects.toString(description.getSummary(), ""),
+                Objects.toString(description.getFullDescription(), ""),
+                Objects.toString(description.getNearbyTourInfo(), ""),
+                Objects.toString(description.getDifficulty(), ""),
+                Objects.toString(description.getHikingPointInfo(), ""),
+                Objects.toString(description.getHikingCourseInfo(), ""),
+                Objects.toString(description.getTransportInfo(), ""));
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+}
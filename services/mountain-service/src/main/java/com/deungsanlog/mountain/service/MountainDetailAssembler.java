@@ -0,0 +1,137 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.dto.MountainDetailDto;
+import com.deungsanlog.mountain.entity.Mountain;
+import com.deungsanlog.mountain.entity.MountainDescription;
+import com.deungsanlog.mountain.entity.MountainSunInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 산 상세 정보 조립
+ * 설명 / 일출일몰 / 날씨 / 산불위험 4개 조회를 동시에 실행하고, 조회별 제한시간을 넘기거나 실패하면
+ * 그 항목만 기본값으로 채워 나머지 결과는 그대로 응답 (응답 시간 ≈ 가장 느린 조회 1개)
+ */
+@Slf4j
+@Component
+public class MountainDetailAssembler {
+
+    private final MountainDescriptionNormalizer descriptionNormalizer;
+    private final SunInfoWeekCache sunInfoWeekCache;
+    private final WeatherApiService weatherApiService;
+    private final FireRiskApiService fireRiskApiService;
+    private final ThreadPoolTaskExecutor mountainDetailExecutor;
+
+    @Value("${mountain.detail.timeout.description-ms:1000}")
+    private long descriptionTimeoutMs;
+
+    @Value("${mountain.detail.timeout.sun-info-ms:1000}")
+    private long sunInfoTimeoutMs;
+
+    @Value("${mountain.detail.timeout.weather-ms:3000}")
+    private long weatherTimeoutMs;
+
+    @Value("${mountain.detail.timeout.fire-risk-ms:1000}")
+    private long fireRiskTimeoutMs;
+
+    public MountainDetailAssembler(MountainDescriptionNormalizer descriptionNormalizer,
+                                   SunInfoWeekCache sunInfoWeekCache,
+                                   WeatherApiService weatherApiService,
+                                   FireRiskApiService fireRiskApiService,
+                                   @Qualifier("mountainDetailExecutor") ThreadPoolTaskExecutor mountainDetailExecutor) {
+        this.descriptionNormalizer = descriptionNormalizer;
+        this.sunInfoWeekCache = sunInfoWeekCache;
+        this.weatherApiService = weatherApiService;
+        this.fireRiskApiService = fireRiskApiService;
+        this.mountainDetailExecutor = mountainDetailExecutor;
+    }
+
+    /**
+     * 산 기본 정보로 상세 정보 조립
+     */
+    public MountainDetailDto assemble(Mountain mountain) {
+        Long mountainId = mountain.getId();
+
+        CompletableFuture<MountainDescription> description = leg("description", mountainId,
+                () -> descriptionNormalizer.getCleanedDescription(mountainId), descriptionTimeoutMs, null);
+        CompletableFuture<List<MountainSunInfo>> sunInfoList = leg("sunInfo", mountainId,
+                () -> sunInfoWeekCache.getWeek(mountainId), sunInfoTimeoutMs, List.of());
+        CompletableFuture<Map<String, Object>> weatherInfo = leg("weather", mountainId,
+                () -> getWeatherInfo(mountain), weatherTimeoutMs,
+                errorResult("날씨 정보 조회 시간 초과"));
+        CompletableFuture<Map<String, Object>> fireRiskInfo = leg("fireRisk", mountainId,
+                () -> getFireRiskInfo(mountain), fireRiskTimeoutMs,
+                errorResult("산불위험예보 조회 시간 초과"));
+
+        return new MountainDetailDto(mountain, description.join(), sunInfoList.join(),
+                weatherInfo.join(), fireRiskInfo.join());
+    }
+
+    /**
+     * 조회 1건을 스레드 풀에서 실행 - 제한시간 초과/예외/풀 포화 시 fallback 으로 완료 (join 이 예외를 던지지 않음)
+     */
+    private <T> CompletableFuture<T> leg(String name, Long mountainId, Supplier<T> supplier,
+                                         long timeoutMs, T fallback) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(supplier, mountainDetailExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 산 상세 조회 스레드 풀 포화 → {} 기본값 사용: mountainId={}", name, mountainId);
+            return CompletableFuture.completedFuture(fallback);
+        }
+        return future
+                .exceptionally(e -> {
+                    log.warn("⚠️ 산 상세 {} 조회 실패 → 기본값 사용: mountainId={}, error={}",
+                            name, mountainId, e.getMessage());
+                    return fallback;
+                })
+                .completeOnTimeout(fallback, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 실시간 날씨 정보 조회
+     */
+    private Map<String, Object> getWeatherInfo(Mountain mountain) {
+        try {
+            if (mountain.getLatitude() != null && mountain.getLongitude() != null) {
+                return weatherApiService.getCurrentWeather(mountain.getLongitude(), mountain.getLatitude());
+            } else {
+                return errorResult("산의 좌표 정보가 없습니다");
+            }
+        } catch (Exception e) {
+            return errorResult("날씨 정보 조회 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 산불위험예보 정보 조회
+     */
+    private Map<String, Object> getFireRiskInfo(Mountain mountain) {
+        try {
+            if (mountain.getLocation() != null) {
+                return fireRiskApiService.getFireRiskInfo(mountain.getLocation());
+            } else {
+                return errorResult("산의 지역 정보가 없습니다");
+            }
+        } catch (Exception e) {
+            return errorResult("산불위험예보 조회 실패: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> errorResult(String message) {
+        return Map.of(
+                "error", true,
+                "message", message
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.dto.MountainNearbyResponse;
+import com.deungsanlog.mountain.entity.Mountain;
+import com.deungsanlog.mountain.event.MountainCatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 산 좌표 격자 인덱스 (위도/경도 0.1° 칸)
+ * - 반경 검색: 반경을 덮는 칸만 훑고 하버사인 거리로 거른 뒤 가까운 순 정렬
+ * - 영역 검색: 지도 화면(bbox)에 걸친 칸만 훑음
+ * - 산 목록 스냅샷(MountainCatalog)이 바뀔 때마다 새로 만들어 통째로 교체
+ */
+@Slf4j
+@Component
+public class MountainGeoIndex {
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private volatile Grid grid = Grid.EMPTY;
+
+    @EventListener
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        Grid next = Grid.build(event.getMountains());
+        grid = next;
+        log.info("🗺️ 산 좌표 인덱스 재구성: version={}, 좌표 있는 산 {}개, 칸 {}개",
+                event.getVersion(), next.located.size(), next.cells.size());
+    }
+
+    /**
+     * 좌표가 있는 전체 산 (지도 마커용)
+     */
+    public List<Mountain> getLocatedMountains() {
+        return grid.located;
+    }
+
+    /**
+     * 기준 좌표 반경 radiusKm 안의 산 (가까운 순, 최대 limit 개)
+     */
+    public List<MountainNearbyResponse> findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        Grid current = grid;
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double lonDelta = radiusKm / (KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        List<MountainNearbyResponse> result = new ArrayList<>();
+        current.forEachInBox(latitude - latDelta, longitude - lonDelta, latitude + latDelta, longitude + lonDelta,
+                mountain -> {
+                    double distance = haversineKm(latitude, longitude, mountain.getLatitude(), mountain.getLongitude());
+                    if (distance <= radiusKm) {
+                        result.add(MountainNearbyResponse.from(mountain, distance));
+                    }
+                });
+
+        result.sort(Comparator.comparingDouble(MountainNearbyResponse::getDistanceKm));
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * 지도 화면 영역(남서 ~ 북동) 안의 산
+     */
+    public List<Mountain> findInBoundingBox(double minLat, double minLon, double maxLat, double maxLon) {
+        List<Mountain> result = new ArrayList<>();
+        grid.forEachInBox(minLat, minLon, maxLat, maxLon, mountain -> {
+            double lat = mountain.getLatitude();
+            double lon = mountain.getLongitude();
+            if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+                result.add(mountain);
+            }
+        });
+        return result;
+    }
+
+    static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long key(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private static final class Grid {
+        private static final Grid EMPTY = new Grid(List.of(), Map.of());
+
+        private final List<Mountain> located;
+        private final Map<Long, List<Mountain>> cells;
+
+        private Grid(List<Mountain> located, Map<Long, List<Mountain>> cells) {
+            this.located = located;
+            this.cells = cells;
+        }
+
+        private static Grid build(List<Mountain> mountains) {
+            List<Mountain> located = new ArrayList<>();
+            Map<Long, List<Mountain>> cells = new HashMap<>();
+            for (Mountain mountain : mountains) {
+                if (mountain.getLatitude() == null || mountain.getLongitude() == null) {
+                    continue;
+                }
+                located.add(mountain);
+                cells.computeIfAbsent(key(cellOf(mountain.getLatitude()), cellOf(mountain.getLongitude())),
+                        k -> new ArrayList<>()).add(mountain);
+            }
+            cells.replaceAll((k, list) -> List.copyOf(list));
+            return new Grid(List.copyOf(located), Map.copyOf(cells));
+        }
+
+        private void forEachInBox(double minLat, double minLon, double maxLat, double maxLon,
+                                  Consumer<Mountain> consumer) {
+            int minLatCell = cellOf(minLat);
+            int maxLatCell = cellOf(maxLat);
+            int minLonCell = cellOf(minLon);
+            int maxLonCell = cellOf(maxLon);
+
+            // 칸 수가 실제 채워진 칸보다 많으면 (전국 화면 등) 채워진 칸만 훑음
+            long boxCells = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+            if (boxCells > cells.size()) {
+                cells.forEach((key, list) -> {
+                    int latCell = (int) (key >> 32);
+                    int lonCell = (int) (long) key;
+                    if (latCell >= minLatCell && latCell <= maxLatCell
+                            && lonCell >= minLonCell && lonCell <= maxLonCell) {
+                        list.forEach(consumer);
+                    }
+                });
+                return;
+            }
+
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    List<Mountain> list = cells.get(key(latCell, lonCell));
+                    if (list != null) {
+                        list.forEach(consumer);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.dto.MountainMarker;
+import com.deungsanlog.mountain.entity.Mountain;
+import com.deungsanlog.mountain.event.MountainCatalogChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 지도용 산 목록 응답 미리 만들기
+ * 산 목록 스냅샷이 바뀔 때만 JSON 직렬화 + gzip 압축 + ETag 계산을 한 번 하고, 요청마다 같은 바이트를 그대로 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MountainMapPayloadCache {
+
+    private final MountainGeoIndex mountainGeoIndex;
+    private final ObjectMapper objectMapper;
+
+    private volatile Payload markers;
+    private volatile Payload mountains;
+
+    @EventListener
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        try {
+            // 리스너 실행 순서와 상관없도록 이벤트의 스냅샷에서 직접 거름
+            List<Mountain> located = event.getMountains().stream()
+                    .filter(mountain -> mountain.getLatitude() != null && mountain.getLongitude() != null)
+                    .toList();
+            Payload nextMarkers = Payload.of(objectMapper.writeValueAsBytes(
+                    located.stream().map(MountainMarker::from).toList()));
+            Payload nextMountains = Payload.of(objectMapper.writeValueAsBytes(located));
+            markers = nextMarkers;
+            mountains = nextMountains;
+
+            log.info("🗺️ 지도 응답 재생성: version={}, 마커 {}B (gzip {}B), 전체 {}B (gzip {}B)",
+                    event.getVersion(), nextMarkers.json().length, nextMarkers.gzip().length,
+                    nextMountains.json().length, nextMountains.gzip().length);
+        } catch (Exception e) {
+            log.error("❌ 지도 응답 재생성 실패 - 기존 응답 유지", e);
+        }
+    }
+
+    /**
+     * 마커 요약 목록 (id, name, lat, lon, elevation)
+     */
+    public Payload getMarkers() {
+        Payload current = markers;
+        return current != null ? current : build(mountainGeoIndex.getLocatedMountains().stream()
+                .map(MountainMarker::from).toList());
+    }
+
+    /**
+     * 기존 /all 응답 (Mountain 전체 필드)
+     */
+    public Payload getMountains() {
+        Payload current = mountains;
+        return current != null ? current : build(mountainGeoIndex.getLocatedMountains());
+    }
+
+    // 아직 산 목록이 적재되기 전 요청 - 그때그때 만들어 응답
+    private Payload build(Object body) {
+        try {
+            return Payload.of(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException("지도 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 미리 직렬화한 응답 (원본 JSON, gzip, 표현별 강한 ETag)
+     * - 강한 ETag 는 표현마다 달라야 하므로 gzip 본은 "-gz" 를 붙인 값 사용
+     */
+    public record Payload(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+
+        static Payload of(byte[] json) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(json);
+            }
+            String hash = sha256(json);
+            return new Payload(json, buffer.toByteArray(), "\"" + hash + "\"", "\"" + hash + "-gz\"");
+        }
+
+        private static String sha256(byte[] bytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+                return HexFormat.of().formatHex(digest, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * scheduler_lock 테이블 기반 분산 잠금
+ * - 만료 시각(lockAtMost)이 지난 잠금만 가져가므로 실행 중 인스턴스가 죽어도 다음 회차에 회복
+ * - 해제 시에도 lockAtLeast 까지는 유지해, 작업이 금방 끝나도 시계가 조금 다른 인스턴스가 같은 회차를 다시 돌지 않게 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private static final String OWNER = resolveOwner();
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    /**
+     * 잠금을 잡은 경우에만 task 실행
+     *
+     * @return 실행했으면 true, 다른 인스턴스가 실행 중이라 건너뛰었으면 false
+     */
+    public boolean runLocked(String name, Duration lockAtMost, Duration lockAtLeast, Runnable task) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.insertIfAbsent(name, now);
+        if (schedulerLockRepository.tryAcquire(name, OWNER, now, now.plus(lockAtMost)) == 0) {
+            log.info("🔒 다른 인스턴스가 실행 중이라 건너뜀: {}", name);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            LocalDateTime releaseAt = LocalDateTime.now();
+            LocalDateTime minimum = now.plus(lockAtLeast);
+            schedulerLockRepository.release(name, OWNER, releaseAt.isAfter(minimum) ? releaseAt : minimum);
+        }
+    }
+
+    private static String resolveOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
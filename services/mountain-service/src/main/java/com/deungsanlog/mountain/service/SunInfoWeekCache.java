@@ -0,0 +1,89 @@
+package com.deungsanlog.mountain.service;
+
+import com.deungsanlog.mountain.entity.MountainSunInfo;
+import com.deungsanlog.mountain.repository.MountainSunInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 산별 1주일치(오늘~6일 후) 일출/일몰 메모리 캐시
+ * - 자정마다 전체 산의 7일치를 범위 쿼리 1회로 다시 적재 → 상세 조회 시 DB 조회 없음
+ * - 날짜가 바뀌었는데 아직 재적재 전이면 해당 산만 범위 쿼리로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SunInfoWeekCache {
+
+    private static final int DAYS = 7;
+    private static final Comparator<MountainSunInfo> BY_DATE = Comparator.comparing(MountainSunInfo::getDate);
+
+    private final MountainSunInfoRepository mountainSunInfoRepository;
+
+    private volatile Week week = new Week(LocalDate.MIN, Map.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 오늘 기준 7일치 다시 적재 (실패 시 기존 캐시 유지)
+     */
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now(KmaForecastClient.KST);
+        try {
+            Map<Long, List<MountainSunInfo>> grouped = new HashMap<>();
+            for (MountainSunInfo info : mountainSunInfoRepository.findByDateBetween(today, today.plusDays(DAYS - 1))) {
+                grouped.computeIfAbsent(info.getMountainId(), key -> new ArrayList<>()).add(info);
+            }
+
+            Map<Long, List<MountainSunInfo>> byMountain = new HashMap<>();
+            grouped.forEach((mountainId, list) -> {
+                list.sort(BY_DATE);
+                byMountain.put(mountainId, List.copyOf(list));
+            });
+
+            week = new Week(today, Map.copyOf(byMountain));
+            log.info("🌅 일출/일몰 주간 캐시 적재 완료: {} ~ {}, 산 {}개", today, today.plusDays(DAYS - 1), byMountain.size());
+        } catch (Exception e) {
+            log.error("❌ 일출/일몰 주간 캐시 적재 실패 - 기존 캐시 유지", e);
+        }
+    }
+
+    /**
+     * 산 하나의 오늘~6일 후 일출/일몰 (날짜 오름차순)
+     */
+    public List<MountainSunInfo> getWeek(Long mountainId) {
+        LocalDate today = LocalDate.now(KmaForecastClient.KST);
+        Week current = week;
+        if (current.startDate().equals(today)) {
+            return current.byMountain().getOrDefault(mountainId, List.of());
+        }
+
+        // 자정 재적재 전/실패 시 - 산 하나만 범위 쿼리 1회
+        List<MountainSunInfo> result = new ArrayList<>(
+                mountainSunInfoRepository.findByMountainIdAndDateBetween(mountainId, today, today.plusDays(DAYS - 1)));
+        result.sort(BY_DATE);
+        return result;
+    }
+
+    private record Week(LocalDate startDate, Map<Long, List<MountainSunInfo>> byMountain) {
+    }
+}
@@ -0,0 +1,4 @@
+-- mountain_sun_info 산별 기간 조회용 복합 인덱스
+-- ddl-auto=update 가 만들지 못한 환경(운영 DB 권한 제한 등)에서 1회 실행
+
+CREATE INDEX idx_mountain_sun_info_mountain_date ON mountain_sun_info (mountain_id, date);
@@ -0,0 +1,97 @@
+package com.deungsanlog.mountain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 번 훑기 정리기가 기존 replaceAll 단계와 같은 결과를 내는지 확인
+ * (기존 코드의 "\\n" 치환은 문자 n 을 남기던 버그라 줄바꿈으로 고친 규칙과 비교)
+ * 폼피드/수직 탭은 기존 정규식에서도 단계마다 다르게 다뤄져 비교하지 않음 (산 설명 원문에 없는 문자)
+ */
+class HtmlTextCleanerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // 대시/괄호 간격
+            "북한산 - 서울", "북한산  -  서울", "북한산-서울", "a -b", "a- b", "a\n-\nb", "a - - b", "a -  - b",
+            " - 앞 대시", "끝 대시 - ", "a - .", "a - <br>b", "a - >b",
+            "높이 (836m)", "높이(836m) 이다", "높이  (836m)  이다", "( 836m )", "a ) ( b", "a) - (b",
+            // <br> 변형
+            "a <br> b", "a<br/>b", "a <br /> b", "a\n<br>\nb", "a <br  /> b", "<br>a<br/>", "a<br>\n\nb",
+            "a<br\u00A0>b", "a<br\u00A0/>b", "a<br\n/>b", "a<br/\u00A0>b", "a<br\t/\n>b", "<br \n />", "x<\u00A0 </tr>",
+            // 문장부호
+            "끝 .", "a , b", "a : b", "a ; b", "a\n.", "a \u00A0.",
+            // 줄바꿈 연속
+            "a\n\n\nb", "a \n \n b", "a\r\n\r\nb", "a\t\n\tb", "\n\na\n\n",
+            // nbsp
+            "a\u00A0\u00A0b", "a&nbsp;&nbsp;b", "a \u00A0 b", "a\u00A0\nb",
+            "a\u00A0>", "a \u00A0 >", "<\u00A0a", "< \u00A0\na", "> \u00A0 <", "<\u00A0>", "a -\u00A0>", "<\n\u00A0-    \n\n",
+            // 태그
+            "<p> a </p> <p>b</p>", "< td >x</td>  <td>y</td>", "</tr>\n<tr>", "</th> x",
+            // 엔티티/기타
+            "&lt;b&gt;굵게&lt;/b&gt;", "", "   ", "\t\r"
+    })
+    void sameAsRegexPipeline(String input) {
+        assertThat(HtmlTextCleaner.clean(input)).isEqualTo(regexClean(input));
+    }
+
+    @Test
+    void sameAsRegexPipeline_randomInputs() {
+        String[] pieces = {" ", "  ", "\u00A0", "&nbsp;", "\t", "\r", "\n", "\n\n", "-", "(", ")", ".", ",", ":", ";",
+                "<br>", "<br/>", "<br />", "<br", "/>", "<", ">", "</td>", "</th>", "</tr>", "<p>", "a", "산", "1"};
+        Random random = new Random(20261018L);
+        for (int n = 0; n < 50_000; n++) {
+            StringBuilder input = new StringBuilder();
+            int length = 1 + random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                input.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String text = input.toString();
+            assertThat(HtmlTextCleaner.clean(text)).as("input=[%s]", text.replace("\n", "\\n")).isEqualTo(regexClean(text));
+        }
+    }
+
+    @Test
+    void keepsNullAndBlank() {
+        assertThat(HtmlTextCleaner.clean(null)).isNull();
+        assertThat(HtmlTextCleaner.clean("  ")).isEqualTo("  ");
+    }
+
+    /**
+     * 기존 MountainDetailAssembler.cleanHtmlText 의 replaceAll 단계 (줄바꿈 치환만 "\n" 으로 수정)
+     */
+    private static String regexClean(String htmlText) {
+        if (htmlText == null || htmlText.trim().isEmpty()) {
+            return htmlText;
+        }
+        String cleaned = HtmlUtils.htmlUnescape(htmlText);
+        cleaned = cleaned.replaceAll("\\t", "");
+        cleaned = cleaned.replaceAll("\\r", "");
+        cleaned = cleaned.replaceAll("\\n+", "\n");
+        cleaned = cleaned.replaceAll(">\\s+<", "><");
+        cleaned = cleaned.replaceAll("\\s+>", ">");
+        cleaned = cleaned.replaceAll("<\\s+", "<");
+        cleaned = cleaned.replaceAll("[ \\u00A0]+", " ");
+        cleaned = cleaned.replaceAll(" *\\n *", "\n");
+        cleaned = cleaned.replaceAll("\\s*<br>\\s*", "<br>");
+        cleaned = cleaned.replaceAll("\\s*<br/>\\s*", "<br>");
+        cleaned = cleaned.replaceAll("\\s*<br />\\s*", "<br>");
+        cleaned = cleaned.replaceAll("</td>\\s+", "</td>");
+        cleaned = cleaned.replaceAll("</th>\\s+", "</th>");
+        cleaned = cleaned.replaceAll("</tr>\\s+", "</tr>");
+        cleaned = cleaned.replaceAll("\\s+\\.", ".");
+        cleaned = cleaned.replaceAll("\\s+,", ",");
+        cleaned = cleaned.replaceAll("\\s+:", ":");
+        cleaned = cleaned.replaceAll("\\s+;", ";");
+        cleaned = cleaned.replaceAll("\\s+-\\s+", " - ");
+        cleaned = cleaned.replaceAll("\\s+\\(", " (");
+        cleaned = cleaned.replaceAll("\\)\\s+", ") ");
+        return cleaned.trim();
+    }
+}
@@ -0,0 +1,135 @@
+package com.deungsanlog.notification.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * user-service FCM 토큰 로컬 캐시
+ * - 다중 알림은 청크 단위로 캐시에 없는 사용자만 모아 일괄 조회 (청크당 원격 호출 최대 1회)
+ * - 토큰이 없는 사용자도 빈 문자열로 캐싱해 반복 조회 방지 - 단 negative-ttl-seconds 만 유지
+ *   (토큰 저장은 다른 인스턴스로 들어올 수 있고 write-through 는 그 인스턴스에만 반영되므로 오래 두지 않음)
+ * - 토큰 저장/갱신 시 write-through 로 즉시 반영, FCM 이 만료 토큰으로 응답하면 무효화
+ */
+@Slf4j
+@Component
+public class FcmTokenCache {
+
+    private static final String NO_TOKEN = "";
+
+    private final UserServiceClient userServiceClient;
+    private final Cache<Long, String> cache;
+
+    public FcmTokenCache(UserServiceClient userServiceClient,
+                         @Value("${notification.fcm-token-cache.max-size:50000}") long maxSize,
+                         @Value("${notification.fcm-token-cache.ttl-minutes:30}") long ttlMinutes,
+                         @Value("${notification.fcm-token-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.userServiceClient = userServiceClient;
+        long tokenTtlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        long noTokenTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, String>() {
+                    @Override
+                    public long expireAfterCreate(Long userId, String token, long currentTime) {
+                        return NO_TOKEN.equals(token) ? noTokenTtlNanos : tokenTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long userId, String token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(userId, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long userId, String token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 단일 사용자 토큰 조회 (토큰이 없으면 null)
+     */
+    public String getToken(Long userId) {
+        return toToken(cache.get(userId, id -> {
+            String token = userServiceClient.getFcmToken(id);
+            return token == null ? NO_TOKEN : token;
+        }));
+    }
+
+    /**
+     * 여러 사용자 토큰 일괄 조회 (캐시 미스가 있을 때만 원격 호출 1회, 토큰 없는 사용자는 결과에서 제외)
+     * 원격 조회 실패 시 예외를 그대로 전달
+     */
+    public Map<Long, String> getTokens(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return withoutEmpty(cache.getAll(ids, this::fetchTokens));
+    }
+
+    /**
+     * 캐시에 이미 있는 토큰만 반환 (원격 조회 실패 시 대체용)
+     */
+    public Map<Long, String> getCachedTokens(Collection<Long> userIds) {
+        return withoutEmpty(cache.getAllPresent(userIds));
+    }
+
+    /**
+     * 토큰 저장/갱신 직후 호출 (write-through)
+     */
+    public void put(Long userId, String token) {
+        cache.put(userId, token == null ? NO_TOKEN : token);
+        log.debug("FCM 토큰 캐시 갱신: userId={}", userId);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        log.debug("FCM 토큰 캐시 무효화: userId={}", userId);
+    }
+
+    /**
+     * FCM 이 만료(UNREGISTERED)로 응답한 사용자 - 다른 인스턴스에서 새 토큰을 저장했을 수 있으므로 다음에 다시 조회
+     */
+    public void evictAll(Collection<Long> userIds) {
+        cache.invalidateAll(userIds);
+        log.debug("FCM 토큰 캐시 무효화: {}명", userIds.size());
+    }
+
+    private Map<Long, String> fetchTokens(Set<? extends Long> missingIds) {
+        Map<Long, String> fetched = new HashMap<>();
+        Map<Long, String> tokens = userServiceClient.getFcmTokens(Set.copyOf(missingIds));
+        for (Long id : missingIds) {
+            String token = tokens == null ? null : tokens.get(id);
+            fetched.put(id, token == null ? NO_TOKEN : token);
+        }
+        return fetched;
+    }
+
+    private Map<Long, String> withoutEmpty(Map<Long, String> tokens) {
+        return tokens.entrySet().stream()
+                .filter(entry -> !entry.getValue().isBlank())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private String toToken(String cached) {
+        return cached == null || cached.isBlank() ? null : cached;
+    }
+}
@@ -3,9 +3,14 @@ package com.deungsanlog.notification.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
+import java.util.Map;
+
 
 @FeignClient(name = "user-service")
 public interface UserServiceClient {
@@ -17,4 +22,8 @@ public interface UserServiceClient {
     @PutMapping("/api/users/internal/users/{userId}/fcm-token")
         // ✅ /api/users 추가
     void updateFcmToken(@PathVariable("userId") Long userId, @RequestParam("token") String token);
+
+    // 여러 사용자의 FCM 토큰 일괄 조회 (토큰이 없는 사용자는 결과에서 제외)
+    @PostMapping("/api/users/internal/fcm-tokens:batch")
+    Map<Long, String> getFcmTokens(@RequestBody Collection<Long> userIds);
 }
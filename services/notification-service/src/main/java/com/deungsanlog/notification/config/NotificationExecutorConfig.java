@@ -0,0 +1,48 @@
+package com.deungsanlog.notification.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class NotificationExecutorConfig {
+
+    /**
+     * 다중 사용자 알림 fan-out 용 제한된 스레드 풀
+     * 토큰 조회/FCM 전송 같은 원격 I/O 동시성을 고정하고, 큐가 차면 호출 스레드에서 실행해 자연스럽게 속도를 늦춤
+     */
+    @Bean(name = "notificationFanOutExecutor")
+    public ThreadPoolTaskExecutor notificationFanOutExecutor(
+            @Value("${notification.fan-out.threads:4}") int threads,
+            @Value("${notification.fan-out.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE 실시간 알림 전송용 스레드 풀 (연결별 큐를 비우는 작업만 수행)
+     */
+    @Bean(name = "notificationPushExecutor")
+    public ThreadPoolTaskExecutor notificationPushExecutor(
+            @Value("${notification.stream.push-threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("notification-push-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
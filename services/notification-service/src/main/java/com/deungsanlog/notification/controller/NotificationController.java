@@ -1,15 +1,19 @@
 package com.deungsanlog.notification.controller;
 
 import com.deungsanlog.notification.dto.BulkNotificationRequest;
+import com.deungsanlog.notification.dto.BulkSendResult;
 import com.deungsanlog.notification.dto.NotificationRequest;
 import com.deungsanlog.notification.entity.Notification;
 import com.deungsanlog.notification.service.NotificationService;
+import com.deungsanlog.notification.stream.NotificationStreamRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,6 +27,7 @@ import java.util.regex.Pattern;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamRegistry notificationStreamRegistry;
 
     // ========== 📋 서비스 상태 체크 ==========
 
@@ -74,6 +79,10 @@ public class NotificationController {
     public ResponseEntity<?> sendBulkNotification(@RequestBody BulkNotificationRequest request) {
         log.info("📨 외부 서비스 대량 알림: userIds={}, type={}", request.getUserIds().size(), request.getType());
 
+        if (request.getDedupeKeys() != null && request.getDedupeKeys().size() != request.getUserIds().size()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "dedupeKeys 는 userIds 와 개수가 같아야 합니다."));
+        }
+
         try {
             // 산 정보가 있으면 알림 내용에 포함
             String content = request.getContent();
@@ -81,15 +90,31 @@ public class NotificationController {
                 content = String.format("[%s] %s", request.getMountainName(), content);
             }
 
-            notificationService.sendNotificationToUsers(
+            BulkSendResult result = notificationService.sendNotificationToUsers(
                     request.getUserIds(),
+                    request.getDedupeKeys(),
                     request.getType(),
                     content
             );
 
+            if (result.hasSaveFailure()) {
+                // 일부 배치 저장 실패 → 2xx 로 응답하면 호출 측이 유실을 알 수 없으므로 실패로 응답 (failedUserIds 만 재시도)
+                log.error("❌ 대량 알림 일부 저장 실패: 대상 {}명 중 {}명",
+                        result.getRecipientCount(), result.getFailedUserIds().size());
+                return ResponseEntity.internalServerError().body(Map.of(
+                        "error", "대량 알림 일부 저장 실패",
+                        "sentCount", result.getSavedCount(),
+                        "failedUserIds", result.getFailedUserIds(),
+                        "batches", result.getBatches()
+                ));
+            }
+
             return ResponseEntity.ok(Map.of(
                     "message", "대량 알림 전송 완료",
-                    "sentCount", request.getUserIds().size()
+                    "sentCount", result.getSavedCount(),
+                    "pushSuccessCount", result.getPushSuccessCount(),
+                    "pushFailureCount", result.getPushFailureCount(),
+                    "batches", result.getBatches()
             ));
         } catch (Exception e) {
             log.error("❌ 외부 대량 알림 전송 실패: {}", e.getMessage());
@@ -134,6 +159,34 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 실시간 알림 스트림 (SSE) - 새 알림과 미읽음 수 변경을 서버에서 푸시
+     * GET /api/notifications/stream
+     * EventSource 는 헤더를 보낼 수 없으므로 token 쿼리 파라미터도 허용
+     * ⚠️ 쿼리의 JWT 는 URL 과 함께 로그에 남을 수 있음 - 게이트웨이가 X-AUTH-TOKEN 헤더로 옮겨 전달하고
+     *    게이트웨이 로그에서는 token 값을 마스킹함 (NotificationStreamRouteConfig, logging.pattern)
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<?> streamNotifications(
+            @RequestHeader(value = "X-AUTH-TOKEN", required = false) String authToken,
+            @RequestParam(value = "token", required = false) String token) {
+
+        Long userId = extractUserIdFromJWT(authToken != null ? authToken : token);
+        if (userId == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "JWT 토큰이 유효하지 않습니다"));
+        }
+
+        try {
+            SseEmitter emitter = notificationStreamRegistry.connect(userId, notificationService.getUnreadCount(userId));
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no") // 프록시 버퍼링 방지
+                    .body(emitter);
+        } catch (IllegalStateException e) {
+            log.warn("⚠️ 실시간 알림 연결 거부: userId={}, reason={}", userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 사용자 알림 목록 조회
      * GET /api/notifications
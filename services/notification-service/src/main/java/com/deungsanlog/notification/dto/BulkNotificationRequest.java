@@ -22,4 +22,5 @@ public class BulkNotificationRequest {
     private String title;       // 알림 제목 (선택사항)
     private Long mountainId;    // 관련 산 ID (선택사항)
     private String mountainName; // 관련 산 이름 (선택사항)
+    private List<String> dedupeKeys; // userIds 와 같은 순서의 중복 저장 방지 키 (선택사항, 재시도 시 같은 키)
 }
\ No newline at end of file
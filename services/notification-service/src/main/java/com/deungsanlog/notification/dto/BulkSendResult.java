@@ -0,0 +1,44 @@
+package com.deungsanlog.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다중 사용자 알림 전송 결과 (배치별 성공/실패 집계)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSendResult {
+    private int recipientCount;   // 중복 제거 후 대상 사용자 수
+    private int savedCount;       // DB 알림 저장 건수
+    private int pushSuccessCount; // FCM 전송 성공 건수
+    private int pushFailureCount; // FCM 전송 실패 건수
+    private int noTokenCount;     // FCM 토큰 없음 (DB 알림만 저장)
+    private List<Long> failedUserIds; // DB 저장에 실패한 배치의 사용자 (호출 측 재시도 대상)
+    private List<Batch> batches;
+
+    public boolean hasSaveFailure() {
+        return failedUserIds != null && !failedUserIds.isEmpty();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Batch {
+        private int index;
+        private int recipientCount;
+        private int savedCount;
+        private int pushSuccessCount;
+        private int pushFailureCount;
+        private int noTokenCount;
+        private boolean saveFailed; // DB 저장 실패 (알림이 저장되지 않음)
+        private String error;     // 배치 처리 중 오류 (없으면 null)
+    }
+}
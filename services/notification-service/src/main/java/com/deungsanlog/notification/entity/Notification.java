@@ -47,6 +47,10 @@ public class Notification {
     @Column(name = "related_user_id")
     private Long relatedUserId;
 
+    // 다른 서비스가 재시도해도 같은 알림이 두 번 저장되지 않도록 하는 키 (유니크, 선택사항)
+    @Column(name = "dedupe_key", length = 100, unique = true)
+    private String dedupeKey;
+
     @PrePersist
     public void prePersist() {
         if (createdAt == null) {
@@ -0,0 +1,26 @@
+package com.deungsanlog.notification.event;
+
+import com.deungsanlog.notification.entity.Notification;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 실시간 푸시 이벤트 (트랜잭션 커밋 후 SSE 로 새 알림/미읽음 수 전달)
+ * notification 이 null 이면 미읽음 수 변경만 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationPushEvent {
+    private final List<Long> userIds;
+    private final Notification notification;
+
+    public static NotificationPushEvent created(List<Long> userIds, Notification notification) {
+        return new NotificationPushEvent(userIds, notification);
+    }
+
+    public static NotificationPushEvent unreadCountChanged(Long userId) {
+        return new NotificationPushEvent(List.of(userId), null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.deungsanlog.notification.event;
+
+import com.deungsanlog.notification.repository.NotificationCounterRepository;
+import com.deungsanlog.notification.repository.NotificationRepository;
+import com.deungsanlog.notification.stream.NotificationStreamRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPushEventListener {
+
+    private final NotificationStreamRegistry streamRegistry;
+    private final NotificationCounterRepository counterRepository;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 커밋된 알림만 전달, 트랜잭션 밖(배치 저장 등)에서 발행된 이벤트는 바로 처리
+     * 현재 이 인스턴스에 연결된 사용자만 골라 미읽음 수를 한 번에 조회
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPush(NotificationPushEvent event) {
+        try {
+            List<Long> connected = event.getUserIds().stream()
+                    .filter(streamRegistry::isConnected)
+                    .toList();
+            if (connected.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Long> unreadCounts = counterRepository.findUnreadCounts(connected);
+            for (Long userId : connected) {
+                Long unreadCount = unreadCounts.get(userId);
+                if (unreadCount == null) {
+                    // 카운터가 아직 없는 사용자 (드묾) - 실제 미읽음 수로 대체
+                    unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
+                }
+                if (event.getNotification() != null) {
+                    streamRegistry.pushNotification(userId, event.getNotification(), unreadCount);
+                } else {
+                    streamRegistry.pushUnreadCount(userId, unreadCount);
+                }
+            }
+        } catch (Exception e) {
+            // 푸시 실패는 알림 저장에 영향 없음 (클라이언트는 재연결 시 목록을 다시 조회)
+            log.warn("⚠️ 실시간 알림 푸시 실패: users={}, error={}", event.getUserIds().size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.deungsanlog.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 알림 대량 저장 (JPA IDENTITY 전략은 배치 insert 가 불가하므로 JDBC batch 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, type, content, is_read, created_at, dedupe_key) VALUES (?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 저장된 중복 방지 키 (호출 측 재시도로 같은 알림이 다시 온 경우)
+     */
+    public Set<String> findExistingDedupeKeys(Collection<String> dedupeKeys) {
+        if (dedupeKeys.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(dedupeKeys.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT dedupe_key FROM notifications WHERE dedupe_key IN (" + placeholders + ")",
+                String.class, dedupeKeys.toArray()));
+    }
+
+    /**
+     * 같은 내용의 알림을 여러 사용자에게 한 번에 저장
+     *
+     * @param dedupeKeys userIds 와 같은 순서의 중복 방지 키 (유니크, 없으면 null)
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<Long> userIds, List<String> dedupeKeys, String type, String content,
+                         LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Integer> rows = IntStream.range(0, userIds.size()).boxed().toList();
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, userIds.get(row));
+            ps.setString(2, type);
+            ps.setString(3, content);
+            ps.setTimestamp(4, timestamp);
+            ps.setString(5, dedupeKeys.get(row));
+        });
+
+        // rewriteBatchedStatements 사용 시 행 수 대신 SUCCESS_NO_INFO(-2)가 올 수 있음
+        int saved = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                saved += count > 0 ? count : (count == Statement.SUCCESS_NO_INFO ? 1 : 0);
+            }
+        }
+        return saved;
+    }
+}
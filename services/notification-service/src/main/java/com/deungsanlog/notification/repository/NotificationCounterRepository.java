@@ -0,0 +1,147 @@
+package com.deungsanlog.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 읽지 않은 알림 카운터 (user_notification_counters)
+ * 알림 저장/읽음/삭제와 같은 트랜잭션에서 갱신하고, 주기적으로 notifications 기준으로 보정
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findUnreadCount(Long userId) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT unread_count FROM user_notification_counters WHERE user_id = ?", Long.class, userId);
+        return counts.stream().findFirst();
+    }
+
+    /**
+     * 여러 사용자의 미읽음 수 일괄 조회 (카운터가 없는 사용자는 결과에서 제외)
+     */
+    public Map<Long, Long> findUnreadCounts(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT user_id, unread_count FROM user_notification_counters WHERE user_id IN (" + placeholders + ")",
+                rs -> {
+                    counts.put(rs.getLong("user_id"), rs.getLong("unread_count"));
+                },
+                userIds.toArray());
+        return counts;
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM user_notification_counters LIMIT 1", Integer.class).isEmpty();
+    }
+
+    /**
+     * 카운터가 없을 때만 notifications 의 실제 미읽음 수로 생성 (이미 있으면 그대로 둠)
+     */
+    public void initializeIfAbsent(Long userId) {
+        jdbcTemplate.update("""
+                INSERT INTO user_notification_counters (user_id, unread_count, updated_at)
+                SELECT ?, COUNT(*), NOW(6) FROM notifications WHERE user_id = ? AND is_read = false
+                ON DUPLICATE KEY UPDATE unread_count = user_notification_counters.unread_count
+                """, userId, userId);
+    }
+
+    /**
+     * 카운터가 없는 사용자 전체를 notifications 기준으로 채움 (테이블 도입 직후 1회)
+     */
+    public int initializeAll() {
+        return jdbcTemplate.update("""
+                INSERT INTO user_notification_counters (user_id, unread_count, updated_at)
+                SELECT user_id, COUNT(*), NOW(6) FROM notifications WHERE is_read = false GROUP BY user_id
+                ON DUPLICATE KEY UPDATE unread_count = user_notification_counters.unread_count
+                """);
+    }
+
+    public void increment(Long userId) {
+        incrementAll(Collections.singletonList(userId));
+    }
+
+    /**
+     * 여러 사용자의 카운터를 알림 수만큼 증가 (같은 사용자가 여러 번 있으면 한 번에 합산)
+     * 행이 없으면 notifications 의 미읽음 수로 생성 (같은 트랜잭션에서 방금 저장한 알림 포함)
+     */
+    public void incrementAll(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        userIds.forEach(userId -> deltas.merge(userId, 1, Integer::sum));
+        List<Map.Entry<Long, Integer>> rows = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_notification_counters (user_id, unread_count, updated_at)
+                SELECT ?, COUNT(*), NOW(6) FROM notifications WHERE user_id = ? AND is_read = false
+                ON DUPLICATE KEY UPDATE unread_count = user_notification_counters.unread_count + ?, updated_at = NOW(6)
+                """, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getKey());
+            ps.setLong(2, row.getKey());
+            ps.setInt(3, row.getValue());
+        });
+    }
+
+    public void decrement(Long userId) {
+        jdbcTemplate.update("""
+                UPDATE user_notification_counters
+                SET unread_count = GREATEST(unread_count - 1, 0), updated_at = NOW(6)
+                WHERE user_id = ?
+                """, userId);
+    }
+
+    public void reset(Long userId) {
+        jdbcTemplate.update("""
+                UPDATE user_notification_counters
+                SET unread_count = 0, updated_at = NOW(6)
+                WHERE user_id = ?
+                """, userId);
+    }
+
+    /**
+     * 보정 대상 사용자 ID (user_id 오름차순 키셋 페이징)
+     */
+    public List<Long> findUserIdsAfter(long lastUserId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_notification_counters WHERE user_id > ? ORDER BY user_id LIMIT ?",
+                Long.class, lastUserId, limit);
+    }
+
+    /**
+     * 주어진 사용자 범위의 카운터를 실제 미읽음 수로 덮어씀 (한 문장으로 실행)
+     *
+     * @return 값이 달라 보정된 행 수
+     */
+    public int reconcileRange(long fromUserId, long toUserId) {
+        return jdbcTemplate.update("""
+                UPDATE user_notification_counters c
+                LEFT JOIN (
+                    SELECT user_id, COUNT(*) AS cnt
+                    FROM notifications
+                    WHERE user_id BETWEEN ? AND ? AND is_read = false
+                    GROUP BY user_id
+                ) n ON n.user_id = c.user_id
+                SET c.unread_count = COALESCE(n.cnt, 0), c.updated_at = NOW(6)
+                WHERE c.user_id BETWEEN ? AND ? AND c.unread_count <> COALESCE(n.cnt, 0)
+                """, fromUserId, toUserId, fromUserId, toUserId);
+    }
+}
@@ -55,6 +55,25 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     void deleteByUserId(Long userId);
 
+    /**
+     * 읽지 않은 알림 하나를 읽음으로 표시 (이미 읽었거나 다른 사용자의 알림이면 0)
+     * 조건부 UPDATE 라 동시에 여러 번 와도 1 을 받는 요청은 하나뿐
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.id = :notificationId AND n.userId = :userId AND n.isRead = false")
+    int markAsReadIfUnread(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
+
+    /**
+     * 알림 하나 삭제 - 읽음 여부 조건으로 나눠 호출하면 미읽음 알림을 지운 요청만 1 을 받음
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n " +
+            "WHERE n.id = :notificationId AND n.userId = :userId AND n.isRead = :isRead")
+    int deleteByIdAndUserIdAndIsRead(@Param("notificationId") Long notificationId,
+                                     @Param("userId") Long userId,
+                                     @Param("isRead") boolean isRead);
+
     /**
      * 사용자의 모든 읽지 않은 알림을 읽음으로 표시
      */
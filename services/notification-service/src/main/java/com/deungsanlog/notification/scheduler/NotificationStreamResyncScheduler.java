@@ -0,0 +1,58 @@
+package com.deungsanlog.notification.scheduler;
+
+import com.deungsanlog.notification.repository.NotificationCounterRepository;
+import com.deungsanlog.notification.stream.NotificationStreamRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 알림 연결의 인스턴스 간 보정
+ * 알림 저장/읽음 처리가 다른 인스턴스에서 일어나면 이 인스턴스의 연결로는 푸시되지 않으므로
+ * 연결 중인 사용자의 미읽음 카운터를 주기적으로 일괄 조회해 바뀐 사용자에게만 resync 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamResyncScheduler {
+
+    private final NotificationStreamRegistry streamRegistry;
+    private final NotificationCounterRepository counterRepository;
+
+    @Value("${notification.stream.resync-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${notification.stream.resync-ms:30000}")
+    public void resync() {
+        Map<Long, Long> sentCounts = streamRegistry.getSentUnreadCounts();
+        List<Long> userIds = new ArrayList<>(sentCounts.keySet());
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        int resynced = 0;
+        try {
+            for (int from = 0; from < userIds.size(); from += batchSize) {
+                List<Long> batch = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+                Map<Long, Long> unreadCounts = counterRepository.findUnreadCounts(batch);
+                for (Map.Entry<Long, Long> entry : unreadCounts.entrySet()) {
+                    Long sentCount = sentCounts.get(entry.getKey());
+                    if (streamRegistry.resyncIfChanged(entry.getKey(), sentCount, entry.getValue())) {
+                        resynced++;
+                    }
+                }
+            }
+            if (resynced > 0) {
+                log.info("🔄 실시간 알림 resync: 연결 사용자 {}명 중 {}명", userIds.size(), resynced);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 실시간 알림 resync 실패: users={}, error={}", userIds.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.deungsanlog.notification.scheduler;
+
+import com.deungsanlog.notification.repository.NotificationCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 읽지 않은 알림 카운터 정합성 보정
+ * 카운터 갱신 누락/중복(장애, 수동 데이터 수정 등)으로 생긴 차이를 notifications 기준으로 주기적으로 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCounterReconciler {
+
+    private final NotificationCounterRepository counterRepository;
+
+    @Value("${notification.unread-counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (counterRepository.isEmpty()) {
+                // 테이블 도입 직후: 미읽음 알림이 있는 사용자 카운터를 notifications 에서 한 번 채움
+                int initialized = counterRepository.initializeAll();
+                log.info("🔄 미읽음 카운터 초기 적재 완료: {}명", initialized);
+            }
+        } catch (Exception e) {
+            log.error("❌ 미읽음 카운터 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${notification.unread-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        log.info("🔄 미읽음 카운터 보정 시작");
+
+        long lastUserId = 0;
+        int corrected = 0;
+        int scanned = 0;
+        try {
+            while (true) {
+                List<Long> userIds = counterRepository.findUserIdsAfter(lastUserId, batchSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                long from = userIds.get(0);
+                long to = userIds.get(userIds.size() - 1);
+                corrected += counterRepository.reconcileRange(from, to);
+                scanned += userIds.size();
+                lastUserId = to;
+            }
+            log.info("✅ 미읽음 카운터 보정 완료: 검사 {}명, 보정 {}명", scanned, corrected);
+        } catch (Exception e) {
+            log.error("❌ 미읽음 카운터 보정 실패: lastUserId={}, error={}", lastUserId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.deungsanlog.notification.service;
+
+import com.deungsanlog.notification.client.FcmTokenCache;
+import com.deungsanlog.notification.dto.BulkSendResult;
+import com.deungsanlog.notification.entity.Notification;
+import com.deungsanlog.notification.event.NotificationPushEvent;
+import com.deungsanlog.notification.repository.NotificationBatchRepository;
+import com.deungsanlog.notification.repository.NotificationCounterRepository;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.WebpushConfig;
+import com.google.firebase.messaging.WebpushNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 다중 사용자 알림 fan-out
+ * - 대상자를 청크(기본 500명, FCM multicast 최대치)로 나눠 제한된 스레드 풀에서 병렬 처리
+ * - 청크마다 FCM 토큰 일괄 조회(캐시) → 알림 JDBC batch 저장 → sendEachForMulticast 1회
+ * - 중복 방지 키가 있으면 이미 저장된 키의 수신자는 저장/푸시 모두 건너뜀 (호출 측 재시도에 안전)
+ * - 저장에 실패한 청크는 푸시도 보내지 않음 (failedUserIds = 알림도 푸시도 받지 못한 사용자 → 재시도해도 중복 없음)
+ */
+@Slf4j
+@Component
+public class NotificationFanOutSender {
+
+    private static final int FCM_MULTICAST_LIMIT = 500;
+
+    private final FcmTokenCache fcmTokenCache;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final FirebaseMessaging firebaseMessaging;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.fan-out.chunk-size:500}")
+    private int chunkSize;
+
+    public NotificationFanOutSender(FcmTokenCache fcmTokenCache,
+                                    NotificationBatchRepository notificationBatchRepository,
+                                    NotificationCounterRepository notificationCounterRepository,
+                                    FirebaseMessaging firebaseMessaging,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("notificationFanOutExecutor") ThreadPoolTaskExecutor executor,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.fcmTokenCache = fcmTokenCache;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.firebaseMessaging = firebaseMessaging;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public BulkSendResult send(List<Long> userIds, String type, String title, String content) {
+        return send(userIds, null, type, title, content);
+    }
+
+    /**
+     * @param dedupeKeys userIds 와 같은 순서의 중복 저장 방지 키 (null 이면 사용자 기준 중복 제거만)
+     */
+    public BulkSendResult send(List<Long> userIds, List<String> dedupeKeys, String type, String title, String content) {
+        List<Recipient> recipients = recipientsOf(userIds, dedupeKeys);
+        int size = Math.max(1, Math.min(chunkSize, FCM_MULTICAST_LIMIT));
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        List<List<Recipient>> chunks = new ArrayList<>();
+        List<CompletableFuture<BulkSendResult.Batch>> futures = new ArrayList<>();
+        for (int from = 0, index = 0; from < recipients.size(); from += size, index++) {
+            List<Recipient> chunk = recipients.subList(from, Math.min(from + size, recipients.size()));
+            int batchIndex = index;
+            chunks.add(chunk);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> sendChunk(batchIndex, chunk, type, title, content, createdAt), executor));
+        }
+
+        List<BulkSendResult.Batch> batches = futures.stream().map(CompletableFuture::join).toList();
+        List<Long> failedUserIds = new ArrayList<>();
+        for (BulkSendResult.Batch batch : batches) {
+            if (batch.isSaveFailed()) {
+                chunks.get(batch.getIndex()).forEach(recipient -> failedUserIds.add(recipient.userId()));
+            }
+        }
+        BulkSendResult result = BulkSendResult.builder()
+                .recipientCount(recipients.size())
+                .savedCount(batches.stream().mapToInt(BulkSendResult.Batch::getSavedCount).sum())
+                .pushSuccessCount(batches.stream().mapToInt(BulkSendResult.Batch::getPushSuccessCount).sum())
+                .pushFailureCount(batches.stream().mapToInt(BulkSendResult.Batch::getPushFailureCount).sum())
+                .noTokenCount(batches.stream().mapToInt(BulkSendResult.Batch::getNoTokenCount).sum())
+                .failedUserIds(failedUserIds)
+                .batches(batches)
+                .build();
+
+        log.info("✅ 다중 알림 fan-out 완료: 대상 {}명, 배치 {}개, 저장 {}, 저장 실패 {}, 푸시 성공 {}, 푸시 실패 {}, 토큰 없음 {}",
+                result.getRecipientCount(), batches.size(), result.getSavedCount(), failedUserIds.size(),
+                result.getPushSuccessCount(), result.getPushFailureCount(), result.getNoTokenCount());
+        return result;
+    }
+
+    /**
+     * 키가 있으면 키 기준, 없으면 사용자 기준으로 중복 제거 (순서 유지)
+     */
+    private List<Recipient> recipientsOf(List<Long> userIds, List<String> dedupeKeys) {
+        Map<Object, Recipient> unique = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            String key = dedupeKeys == null ? null : dedupeKeys.get(i);
+            Recipient recipient = new Recipient(userIds.get(i), key);
+            unique.putIfAbsent(key != null ? key : recipient.userId(), recipient);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private BulkSendResult.Batch sendChunk(int index, List<Recipient> recipients, String type, String title,
+                                           String content, LocalDateTime createdAt) {
+        BulkSendResult.Batch batch = BulkSendResult.Batch.builder()
+                .index(index)
+                .recipientCount(recipients.size())
+                .build();
+
+        // 1. 이미 저장된 중복 방지 키 제외 (이전 요청에서 저장/푸시까지 끝난 수신자)
+        List<Recipient> fresh;
+        try {
+            Set<String> existing = notificationBatchRepository.findExistingDedupeKeys(recipients.stream()
+                    .map(Recipient::dedupeKey)
+                    .filter(Objects::nonNull)
+                    .toList());
+            fresh = recipients.stream()
+                    .filter(recipient -> recipient.dedupeKey() == null || !existing.contains(recipient.dedupeKey()))
+                    .toList();
+        } catch (Exception e) {
+            log.error("❌ 중복 방지 키 조회 실패: batch={}, size={}", index, recipients.size(), e);
+            batch.setSaveFailed(true);
+            batch.setError("DB 조회 실패: " + e.getMessage());
+            return batch;
+        }
+        if (fresh.size() < recipients.size()) {
+            log.info("📨 이미 저장된 알림 건너뜀: batch={}, {}건", index, recipients.size() - fresh.size());
+        }
+        if (fresh.isEmpty()) {
+            return batch;
+        }
+        List<Long> chunk = fresh.stream().map(Recipient::userId).toList();
+        List<String> keys = fresh.stream().map(Recipient::dedupeKey).toList();
+
+        // 2. FCM 토큰 일괄 조회 (캐시 미스만 원격 조회, 실패 시 캐시에 있던 토큰만 사용)
+        Map<Long, String> tokens;
+        try {
+            tokens = fcmTokenCache.getTokens(chunk);
+        } catch (Exception e) {
+            log.warn("⚠️ FCM 토큰 일괄 조회 실패 - 캐시된 토큰만 전송: batch={}, error={}", index, e.getMessage());
+            batch.setError("토큰 조회 실패: " + e.getMessage());
+            tokens = fcmTokenCache.getCachedTokens(chunk);
+        }
+
+        // 3. DB 알림 저장 (FCM 성공/실패와 무관하게 항상 저장)
+        try {
+            Integer saved = transactionTemplate.execute(status -> {
+                int inserted = notificationBatchRepository.insertAll(chunk, keys, type, content, createdAt);
+                notificationCounterRepository.incrementAll(chunk);
+                return inserted;
+            });
+            batch.setSavedCount(saved == null ? 0 : saved);
+
+            // 실시간 연결 중인 사용자에게 새 알림 푸시 (배치 저장이라 알림 ID 없이 내용만 전달)
+            eventPublisher.publishEvent(NotificationPushEvent.created(chunk, Notification.builder()
+                    .type(type)
+                    .content(content)
+                    .isRead(false)
+                    .createdAt(createdAt)
+                    .build()));
+        } catch (Exception e) {
+            log.error("❌ DB 알림 일괄 저장 실패: batch={}, size={}", index, chunk.size(), e);
+            batch.setSaveFailed(true);
+            batch.setError("DB 저장 실패: " + e.getMessage());
+            // 저장 실패 청크는 호출 측이 그대로 재시도 → 지금 푸시하면 재시도 때 중복 푸시되므로 건너뜀
+            log.info("📨 알림 배치 처리: batch={}, 대상 {}, 저장 실패 - 푸시 생략", index, batch.getRecipientCount());
+            return batch;
+        }
+
+        // 4. FCM multicast 전송 (토큰이 있는 사용자만)
+        List<String> registrationTokens = chunk.stream()
+                .map(tokens::get)
+                .filter(token -> token != null && !token.isBlank())
+                .distinct()
+                .toList();
+        int noToken = 0;
+        for (Long userId : new LinkedHashSet<>(chunk)) {
+            String token = tokens.get(userId);
+            if (token == null || token.isBlank()) {
+                noToken++;
+            }
+        }
+        batch.setNoTokenCount(noToken);
+
+        if (!registrationTokens.isEmpty()) {
+            try {
+                BatchResponse response = firebaseMessaging.sendEachForMulticast(MulticastMessage.builder()
+                        .addAllTokens(registrationTokens)
+                        .setNotification(com.google.firebase.messaging.Notification.builder()
+                                .setTitle(title)
+                                .setBody(content)
+                                .build())
+                        .setWebpushConfig(WebpushConfig.builder()
+                                .setNotification(new WebpushNotification(title, content))
+                                .build())
+                        .build());
+
+                batch.setPushSuccessCount(response.getSuccessCount());
+                batch.setPushFailureCount(response.getFailureCount());
+                logFailures(index, response);
+                evictUnregistered(response, registrationTokens, chunk, tokens);
+            } catch (Exception e) {
+                log.error("❌ FCM multicast 전송 실패: batch={}, tokens={}, error={}",
+                        index, registrationTokens.size(), e.getMessage());
+                batch.setPushFailureCount(registrationTokens.size());
+                batch.setError("FCM 전송 실패: " + e.getMessage());
+            }
+        }
+
+        log.info("📨 알림 배치 처리: batch={}, 대상 {}, 저장 {}, 푸시 성공 {}, 푸시 실패 {}, 토큰 없음 {}",
+                index, batch.getRecipientCount(), batch.getSavedCount(),
+                batch.getPushSuccessCount(), batch.getPushFailureCount(), batch.getNoTokenCount());
+        return batch;
+    }
+
+    private void logFailures(int index, BatchResponse response) {
+        if (response.getFailureCount() == 0) {
+            return;
+        }
+
+        long unregistered = response.getResponses().stream()
+                .filter(r -> !r.isSuccessful())
+                .map(SendResponse::getException)
+                .filter(e -> e != null && e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED)
+                .count();
+        log.warn("⚠️ FCM 일부 전송 실패: batch={}, 실패 {}건 (만료 토큰 {}건)",
+                index, response.getFailureCount(), unregistered);
+    }
+
+    /**
+     * 만료 토큰 사용자의 캐시 무효화 (responses 는 registrationTokens 순서)
+     */
+    private void evictUnregistered(BatchResponse response, List<String> registrationTokens,
+                                   List<Long> userIds, Map<Long, String> tokens) {
+        Set<String> expired = new HashSet<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size() && i < registrationTokens.size(); i++) {
+            SendResponse result = responses.get(i);
+            if (!result.isSuccessful() && result.getException() != null
+                    && result.getException().getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                expired.add(registrationTokens.get(i));
+            }
+        }
+        if (!expired.isEmpty()) {
+            fcmTokenCache.evictAll(userIds.stream()
+                    .filter(userId -> expired.contains(tokens.get(userId)))
+                    .distinct()
+                    .toList());
+        }
+    }
+
+    private record Recipient(Long userId, String dedupeKey) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.deungsanlog.notification.service;
 
+import com.deungsanlog.notification.dto.BulkSendResult;
 import com.deungsanlog.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -38,8 +39,16 @@ public interface NotificationService {
      * @param userIds 사용자 ID 목록
      * @param type    알림 타입
      * @param content 알림 내용
+     * @return 배치별 저장/전송 성공·실패 집계
      */
-    void sendNotificationToUsers(List<Long> userIds, String type, String content);
+    BulkSendResult sendNotificationToUsers(List<Long> userIds, String type, String content);
+
+    /**
+     * 여러 사용자에게 알림 전송 - 중복 방지 키가 이미 저장된 수신자는 저장/푸시를 건너뜀
+     *
+     * @param dedupeKeys userIds 와 같은 순서의 중복 방지 키 (null 이면 키 없이 전송)
+     */
+    BulkSendResult sendNotificationToUsers(List<Long> userIds, List<String> dedupeKeys, String type, String content);
 
     /**
      * FCM 토큰 저장/업데이트
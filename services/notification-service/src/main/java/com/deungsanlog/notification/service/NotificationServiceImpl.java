@@ -1,7 +1,11 @@
 package com.deungsanlog.notification.service;
 
+import com.deungsanlog.notification.client.FcmTokenCache;
 import com.deungsanlog.notification.client.UserServiceClient;
+import com.deungsanlog.notification.dto.BulkSendResult;
 import com.deungsanlog.notification.entity.Notification;
+import com.deungsanlog.notification.event.NotificationPushEvent;
+import com.deungsanlog.notification.repository.NotificationCounterRepository;
 import com.deungsanlog.notification.repository.NotificationRepository;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
@@ -10,6 +14,7 @@ import com.google.firebase.messaging.WebpushNotification;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,7 +29,11 @@ import java.util.NoSuchElementException;
 public class NotificationServiceImpl implements NotificationService {
 
     private final UserServiceClient userServiceClient;
+    private final FcmTokenCache fcmTokenCache;
     private final NotificationRepository notificationRepository;
+    private final NotificationFanOutSender notificationFanOutSender;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========== 📱 FCM 알림 전송 기능 ==========
 
@@ -35,7 +44,7 @@ public class NotificationServiceImpl implements NotificationService {
 
         try {
             // 1. FCM 토큰 조회
-            String fcmToken = userServiceClient.getFcmToken(userId);
+            String fcmToken = fcmTokenCache.getToken(userId);
 
             // 2. FCM 푸시 알림 전송 (토큰이 있는 경우에만)
             if (fcmToken != null && !fcmToken.isBlank()) {
@@ -70,7 +79,7 @@ public class NotificationServiceImpl implements NotificationService {
 
         try {
             // 1. FCM 토큰 조회
-            String fcmToken = userServiceClient.getFcmToken(userId);
+            String fcmToken = fcmTokenCache.getToken(userId);
 
             // 2. FCM 푸시 알림 전송 (토큰이 있는 경우에만)
             if (fcmToken != null && !fcmToken.isBlank()) {
@@ -98,23 +107,17 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
-    @Transactional
     @Override
-    public void sendNotificationToUsers(List<Long> userIds, String type, String content) {
-        log.info("📨 다중 사용자 알림 전송: 대상 {}명, type={}", userIds.size(), type);
+    public BulkSendResult sendNotificationToUsers(List<Long> userIds, String type, String content) {
+        return sendNotificationToUsers(userIds, null, type, content);
+    }
 
-        int successCount = 0;
-        for (Long userId : userIds) {
-            try {
-                sendNotificationToUser(userId, type, content);
-                successCount++;
-            } catch (Exception e) {
-                log.error("❌ 개별 사용자 알림 실패: userId={}", userId, e);
-                // 개별 실패가 전체를 막지 않도록 continue
-            }
-        }
+    @Override
+    public BulkSendResult sendNotificationToUsers(List<Long> userIds, List<String> dedupeKeys, String type, String content) {
+        log.info("📨 다중 사용자 알림 전송: 대상 {}명, type={}", userIds.size(), type);
 
-        log.info("✅ 다중 알림 전송 완료: 성공 {}/{}", successCount, userIds.size());
+        // 청크 단위 병렬 fan-out (토큰 일괄 조회 + JDBC batch 저장 + FCM multicast)
+        return notificationFanOutSender.send(userIds, dedupeKeys, type, getNotificationTitle(type), content);
     }
 
     @Override
@@ -123,8 +126,10 @@ public class NotificationServiceImpl implements NotificationService {
 
         try {
             userServiceClient.updateFcmToken(userId, fcmToken);
+            fcmTokenCache.put(userId, fcmToken); // write-through
             log.info("✅ FCM 토큰 저장 완료: userId={}", userId);
         } catch (Exception e) {
+            fcmTokenCache.evict(userId); // 저장 여부가 불확실하므로 다음 조회 때 다시 읽음
             log.error("❌ FCM 토큰 저장 실패: userId={}", userId, e);
             throw new RuntimeException("FCM 토큰 저장 실패", e);
         }
@@ -143,18 +148,16 @@ public class NotificationServiceImpl implements NotificationService {
     public void markAsRead(Long notificationId, Long userId) {
         log.info("✅ 알림 읽음 처리: notificationId={}, userId={}", notificationId, userId);
 
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new NoSuchElementException("알림이 존재하지 않습니다: " + notificationId));
-
-        if (!notification.getUserId().equals(userId)) {
-            throw new SecurityException("다른 사용자의 알림은 읽을 수 없습니다");
-        }
-
-        if (!notification.isRead()) {
-            notification.setRead(true);
-            notificationRepository.save(notification);
+        // 조건부 UPDATE 로 미읽음 → 읽음 전환에 성공한 요청만 카운터 감소 (동시 요청 중복 감소 방지)
+        if (notificationRepository.markAsReadIfUnread(notificationId, userId) == 1) {
+            notificationCounterRepository.decrement(userId);
+            eventPublisher.publishEvent(NotificationPushEvent.unreadCountChanged(userId));
             log.info("✅ 알림 읽음 처리 완료: notificationId={}", notificationId);
+            return;
         }
+
+        // 바뀐 행이 없음 - 이미 읽은 알림이면 그대로 두고, 없거나 다른 사용자의 알림이면 에러
+        checkOwner(notificationId, userId, "다른 사용자의 알림은 읽을 수 없습니다");
     }
 
     @Transactional
@@ -162,20 +165,37 @@ public class NotificationServiceImpl implements NotificationService {
     public void deleteNotification(Long notificationId, Long userId) {
         log.info("🗑️ 알림 삭제: notificationId={}, userId={}", notificationId, userId);
 
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new NoSuchElementException("알림이 존재하지 않습니다: " + notificationId));
-
-        if (!notification.getUserId().equals(userId)) {
-            throw new SecurityException("다른 사용자의 알림은 삭제할 수 없습니다");
+        // 미읽음 알림을 지운 요청만 카운터 감소 (동시 읽음 처리/삭제와 겹쳐도 한 번만 감소)
+        if (notificationRepository.deleteByIdAndUserIdAndIsRead(notificationId, userId, false) == 1) {
+            notificationCounterRepository.decrement(userId);
+            eventPublisher.publishEvent(NotificationPushEvent.unreadCountChanged(userId));
+        } else if (notificationRepository.deleteByIdAndUserIdAndIsRead(notificationId, userId, true) == 0) {
+            // 지운 행이 없음 - 없거나(동시 삭제 포함) 다른 사용자의 알림
+            checkOwner(notificationId, userId, "다른 사용자의 알림은 삭제할 수 없습니다");
+            return;
         }
-
-        notificationRepository.delete(notification);
         log.info("✅ 알림 삭제 완료: notificationId={}", notificationId);
     }
 
+    private void checkOwner(Long notificationId, Long userId, String message) {
+        notificationRepository.findById(notificationId).ifPresentOrElse(notification -> {
+            if (!notification.getUserId().equals(userId)) {
+                throw new SecurityException(message);
+            }
+        }, () -> {
+            throw new NoSuchElementException("알림이 존재하지 않습니다: " + notificationId);
+        });
+    }
+
     @Override
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        // 카운터 PK 조회, 카운터가 아직 없는 사용자만 COUNT(*) 로 초기화
+        // (조회와 생성을 한 문장으로 처리 → 동시에 들어온 증가분이 먼저 행을 만들어도 그 값을 그대로 읽음)
+        return notificationCounterRepository.findUnreadCount(userId)
+                .orElseGet(() -> {
+                    notificationCounterRepository.initializeIfAbsent(userId);
+                    return notificationCounterRepository.findUnreadCount(userId).orElse(0L);
+                });
     }
 
     @Transactional
@@ -185,6 +205,8 @@ public class NotificationServiceImpl implements NotificationService {
 
         try {
             int updatedCount = notificationRepository.markAllAsReadByUserId(userId);
+            notificationCounterRepository.reset(userId);
+            eventPublisher.publishEvent(NotificationPushEvent.unreadCountChanged(userId));
             log.info("✅ 모든 알림 읽음 처리 완료: userId={}, updatedCount={}", userId, updatedCount);
         } catch (Exception e) {
             log.error("❌ 모든 알림 읽음 처리 실패: userId={}", userId, e);
@@ -226,6 +248,8 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        notificationCounterRepository.increment(userId);
+        eventPublisher.publishEvent(NotificationPushEvent.created(List.of(userId), notification));
     }
 
     private void saveNotificationToDb(Long userId, String type, String content, Long meetingId) {
@@ -239,6 +263,8 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        notificationCounterRepository.increment(userId);
+        eventPublisher.publishEvent(NotificationPushEvent.created(List.of(userId), notification));
     }
 
     private String getNotificationTitle(String type) {
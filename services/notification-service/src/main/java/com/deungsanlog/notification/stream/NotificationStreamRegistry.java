@@ -0,0 +1,218 @@
+package com.deungsanlog.notification.stream;
+
+import com.deungsanlog.notification.entity.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 SSE 연결 관리 (여러 탭/기기를 위해 사용자당 최대 max-connections-per-user 개, 넘으면 가장 오래된 연결 종료)
+ * - 새 알림/미읽음 수는 사용자의 모든 연결로 전송
+ * - 전송은 연결별 고정 크기 큐에 쌓고 push 스레드 풀에서 순서대로 비움
+ * - 느린 클라이언트로 큐가 가득 차면 밀린 이벤트를 버리고 resync 이벤트 하나만 남김 (목록 재조회 유도)
+ * - 프록시/로드밸런서 유휴 타임아웃을 막기 위해 주기적으로 heartbeat 코멘트 전송
+ * ⚠️ 연결은 인스턴스 메모리에만 있음 - 알림을 저장한 인스턴스가 아닌 다른 인스턴스에 연결된 사용자에게는
+ *    즉시 푸시되지 않음 (인스턴스 간 브로커 없음). 여러 인스턴스로 띄우면 NotificationStreamResyncScheduler 가
+ *    DB 미읽음 수를 주기적으로 비교해 바뀐 사용자에게 resync 이벤트를 보냄 (최대 resync-ms 지연).
+ *    즉시 전달이 필요하면 단일 인스턴스 또는 사용자 기준 sticky 라우팅으로 운영
+ */
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+
+    // 사용자별 연결 목록 (연결 순서, 변경은 compute 안에서만)
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    // 사용자에게 마지막으로 보낸 미읽음 수 (다른 인스턴스에서 바뀐 것을 알아내는 기준)
+    private final Map<Long, Long> lastUnreadCounts = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${notification.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notification.stream.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${notification.stream.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${notification.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    public NotificationStreamRegistry(@Qualifier("notificationPushExecutor") ThreadPoolTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    public SseEmitter connect(Long userId, long unreadCount) {
+        if (connectionCount.get() >= maxConnections) {
+            throw new IllegalStateException("실시간 알림 연결 수가 한도를 초과했습니다");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter, queueCapacity);
+
+        emitter.onCompletion(() -> close(connection));
+        emitter.onTimeout(() -> {
+            close(connection);
+            emitter.complete();
+        });
+        emitter.onError(e -> close(connection));
+
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(userId, (id, current) -> {
+            List<Connection> next = current == null ? new CopyOnWriteArrayList<>() : current;
+            next.add(connection);
+            while (next.size() > Math.max(1, maxConnectionsPerUser)) {
+                evicted.add(next.remove(0));
+            }
+            return next;
+        });
+        connectionCount.addAndGet(1 - evicted.size());
+        evicted.forEach(previous -> {
+            close(previous); // 이미 목록에서 빠졌으므로 상태만 정리
+            previous.emitter.complete();
+        });
+
+        lastUnreadCounts.put(userId, unreadCount);
+        enqueue(connection, SseEmitter.event().name("unread-count").data(Map.of("unreadCount", unreadCount)));
+        log.info("🔌 실시간 알림 연결: userId={}, 사용자 연결 {}개, 전체 연결 수={}",
+                userId, connections.getOrDefault(userId, List.of()).size(), connectionCount.get());
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        return connections.containsKey(userId);
+    }
+
+    /**
+     * 연결 중인 사용자별로 마지막으로 보낸 미읽음 수 (스냅샷)
+     */
+    public Map<Long, Long> getSentUnreadCounts() {
+        return new HashMap<>(lastUnreadCounts);
+    }
+
+    public void pushNotification(Long userId, Notification notification, long unreadCount) {
+        lastUnreadCounts.put(userId, unreadCount);
+        for (Connection connection : connections.getOrDefault(userId, List.of())) {
+            enqueue(connection, SseEmitter.event().name("notification").data(notification));
+            enqueue(connection, SseEmitter.event().name("unread-count").data(Map.of("unreadCount", unreadCount)));
+        }
+    }
+
+    public void pushUnreadCount(Long userId, long unreadCount) {
+        lastUnreadCounts.put(userId, unreadCount);
+        for (Connection connection : connections.getOrDefault(userId, List.of())) {
+            enqueue(connection, SseEmitter.event().name("unread-count").data(Map.of("unreadCount", unreadCount)));
+        }
+    }
+
+    /**
+     * DB 미읽음 수가 마지막으로 보낸 값과 다르면 (다른 인스턴스에서 저장/읽음 처리됨) 목록 재조회 유도
+     * 조회하는 사이 이 인스턴스에서 새 값을 보냈으면 (sentCount 와 달라짐) 그 값이 최신이므로 건너뜀
+     *
+     * @return resync 를 보냈으면 true
+     */
+    public boolean resyncIfChanged(Long userId, long sentCount, long unreadCount) {
+        if (sentCount == unreadCount || !lastUnreadCounts.replace(userId, sentCount, unreadCount)) {
+            return false;
+        }
+        for (Connection connection : connections.getOrDefault(userId, List.of())) {
+            enqueue(connection, SseEmitter.event().name("resync").data(Map.of("reason", "remote")));
+            enqueue(connection, SseEmitter.event().name("unread-count").data(Map.of("unreadCount", unreadCount)));
+        }
+        return true;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections -> userConnections.forEach(
+                connection -> enqueue(connection, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            return;
+        }
+
+        if (!connection.queue.offer(event)) {
+            // 느린 클라이언트 - 밀린 이벤트 대신 재동기화 요청만 전달
+            connection.queue.clear();
+            connection.queue.offer(SseEmitter.event().name("resync").data(Map.of("reason", "overflow")));
+            log.warn("⚠️ 실시간 알림 큐 초과 - resync 전송: userId={}", connection.userId);
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.closed && (event = connection.queue.poll()) != null) {
+                connection.emitter.send(event);
+            }
+        } catch (Exception e) {
+            log.debug("실시간 알림 전송 실패 - 연결 종료: userId={}, error={}", connection.userId, e.getMessage());
+            close(connection);
+            connection.emitter.completeWithError(e);
+        } finally {
+            connection.draining.set(false);
+            // 비우는 사이에 새로 들어온 이벤트 처리
+            if (!connection.closed && !connection.queue.isEmpty()) {
+                scheduleDrain(connection);
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        connection.closed = true;
+        connection.queue.clear();
+        connections.computeIfPresent(connection.userId, (id, current) -> {
+            if (current.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            if (current.isEmpty()) {
+                lastUnreadCounts.remove(id);
+                return null;
+            }
+            return current;
+        });
+    }
+
+    private static class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- 다른 서비스(community outbox 등)가 bulk-send 를 재시도해도 같은 알림이 두 번 저장되지 않도록 하는 키
+-- ddl-auto=validate 이므로 배포 전 1회 실행 (키 없는 알림은 NULL → 유니크 제약과 무관)
+ALTER TABLE notifications
+    ADD COLUMN dedupe_key VARCHAR(100) NULL,
+    ADD UNIQUE INDEX uk_notifications_dedupe_key (dedupe_key);
@@ -0,0 +1,17 @@
+-- 사용자별 읽지 않은 알림 수 (unread-count 폴링을 COUNT(*) 대신 PK 조회로 처리)
+CREATE TABLE IF NOT EXISTS user_notification_counters (
+    user_id      BIGINT      NOT NULL PRIMARY KEY,
+    unread_count INT         NOT NULL DEFAULT 0,
+    updated_at   DATETIME(6) NOT NULL
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 카운터 초기화/정합성 보정 시 사용하는 집계 인덱스
+CREATE INDEX idx_notifications_user_read ON notifications (user_id, is_read);
+
+-- 기존 사용자 카운터 채우기 (테이블 도입 시 1회, 이미 있는 행은 그대로 둠)
+INSERT INTO user_notification_counters (user_id, unread_count, updated_at)
+SELECT user_id, COUNT(*), NOW(6)
+FROM notifications
+WHERE is_read = false
+GROUP BY user_id
+ON DUPLICATE KEY UPDATE unread_count = user_notification_counters.unread_count;
@@ -3,8 +3,10 @@ package com.deungsanlog.record;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableFeignClients(basePackages = "com.deungsanlog.record.client")
+@EnableScheduling
 @SpringBootApplication
 public class RecordServiceApplication {
 
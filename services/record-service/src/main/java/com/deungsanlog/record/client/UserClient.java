@@ -3,10 +3,18 @@ package com.deungsanlog.record.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.Map;
 
 @FeignClient(name = "user-service")
 public interface UserClient {
 
     @GetMapping("/api/users/{id}/nickname")
     String getNickname(@PathVariable("id") Long id);
+
+    // 닉네임 일괄 조회 (랭킹 화면용)
+    @GetMapping("/api/users/nicknames")
+    Map<Long, String> getNicknames(@RequestParam("ids") Collection<Long> ids);
 }
@@ -7,17 +7,36 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/records/users")
 @RequiredArgsConstructor
 public class BadgeProfileController {
 
+    private static final int MAX_BATCH_SIZE = 200;
+
     private final BadgeProfileService badgeProfileService;
 
     @GetMapping("/{userId}/badge-profile")
     public ResponseEntity<BadgeProfileDto> getBadgeProfile(@PathVariable Long userId) {
         return ResponseEntity.ok(badgeProfileService.getBadgeProfile(userId));
     }
+
+    /**
+     * 뱃지 일괄 조회 (커뮤니티/모임 멤버 목록용)
+     * GET /api/records/users/badge-profiles?userIds=1,2,3 → { "1": {...}, "2": {...} }
+     */
+    @GetMapping("/badge-profiles")
+    public ResponseEntity<?> getBadgeProfiles(@RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "userIds 는 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다."));
+        }
+        return ResponseEntity.ok(badgeProfileService.getBadgeProfiles(userIds));
+    }
 }
@@ -12,10 +12,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +33,8 @@ public class RecordController {
     private final HotMountainService hotMountainService;
     private final RankingService rankingService;
 
+    private static final Duration HOT_MOUNTAINS_MAX_AGE = Duration.ofMinutes(1);
+
     @GetMapping("/status")
     public Map<String, String> getStatus() {
         return Map.of("message", "record-service is up!");
@@ -66,11 +72,27 @@ public class RecordController {
         return ResponseEntity.ok(record);
     }
 
+    /**
+     * 최근 days 일(7/30/90) 인기 산 - 주기적으로 계산해 둔 순위를 ETag 와 함께 응답
+     */
     @GetMapping("/hot-mountains")
-    public ResponseEntity<List<HotMountainResponse>> getHotMountains(
-            @RequestParam(defaultValue = "10") int limit
+    public ResponseEntity<?> getHotMountains(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return ResponseEntity.ok(hotMountainService.getHotMountains(limit));
+        if (!hotMountainService.isSupportedWindow(days)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "days 는 " + hotMountainService.getWindows() + " 중 하나여야 합니다."));
+        }
+
+        List<HotMountainResponse> hotMountains = hotMountainService.getHotMountains(days, limit);
+        String etag = "\"hot-" + days + "-" + limit + "-" + Integer.toHexString(hotMountains.hashCode()) + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(HOT_MOUNTAINS_MAX_AGE).cachePublic().mustRevalidate();
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(hotMountains);
     }
 
     @GetMapping("/rankings")
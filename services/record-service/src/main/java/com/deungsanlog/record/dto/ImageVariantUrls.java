@@ -0,0 +1,11 @@
+package com.deungsanlog.record.dto;
+
+/**
+ * 사진 축소본 URL (썸네일 200x200, 너비 640 / 1280)
+ */
+public record ImageVariantUrls(
+        String thumbnailUrl,
+        String mediumUrl,
+        String largeUrl
+) {
+}
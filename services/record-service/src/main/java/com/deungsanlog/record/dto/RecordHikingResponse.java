@@ -17,18 +17,25 @@ public class RecordHikingResponse {
     private Long mountainId;
     private String mountainName;
     private String photoUrl;
+    // 축소본 URL (생성 전이면 null → photoUrl 사용)
+    private ImageVariantUrls photoVariants;
     private String content;
     private LocalDate recordDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public static RecordHikingResponse from(RecordHiking record) {
+        return from(record, null);
+    }
+
+    public static RecordHikingResponse from(RecordHiking record, ImageVariantUrls photoVariants) {
         return RecordHikingResponse.builder()
                 .id(record.getId())
                 .userId(record.getUserId())
                 .mountainId(record.getMountainId())
                 .mountainName(record.getMountainName())
                 .photoUrl(record.getPhotoUrl())
+                .photoVariants(photoVariants)
                 .content(record.getContent())
                 .recordDate(record.getRecordDate())
                 .createdAt(record.getCreatedAt())
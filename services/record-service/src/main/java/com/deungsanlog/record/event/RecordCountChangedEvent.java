@@ -0,0 +1,17 @@
+package com.deungsanlog.record.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 등산 기록 수 변경 이벤트 (커밋 후 메모리 랭킹 반영용)
+ * recordCount: 변경 후 기록 수, version: 변경 후 user_record_counts 행 버전
+ * 증감 대신 버전이 붙은 절대값을 보내므로 재적재 스냅샷과 겹쳐도 두 번 반영되거나 유실되지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecordCountChangedEvent {
+    private final Long userId;
+    private final int recordCount;
+    private final long version;
+}
@@ -0,0 +1,91 @@
+package com.deungsanlog.record.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 산별 일자별 등산 기록 수 (mountain_day_counts)
+ * 기록 생성/수정/삭제와 같은 트랜잭션에서 갱신하고, 매일 record_hikings 기준으로 보정
+ */
+@Repository
+@RequiredArgsConstructor
+public class MountainDayCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record DayCount(Long mountainId, LocalDate recordDate, String mountainName, int recordCount) {
+    }
+
+    /**
+     * since 이후(포함) 기록이 있는 버킷 전체
+     */
+    public List<DayCount> findSince(LocalDate since) {
+        return jdbcTemplate.query("""
+                SELECT mountain_id, record_date, mountain_name, record_count
+                FROM mountain_day_counts
+                WHERE record_date >= ? AND record_count > 0
+                """, (rs, rowNum) -> new DayCount(
+                rs.getLong(1),
+                rs.getDate(2).toLocalDate(),
+                rs.getString(3),
+                rs.getInt(4)), Date.valueOf(since));
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM mountain_day_counts LIMIT 1", Integer.class).isEmpty();
+    }
+
+    /**
+     * 버킷 1 증가 (행이 없으면 1로 생성, 산 이름은 마지막 기록 기준)
+     */
+    public void increment(Long mountainId, String mountainName, LocalDate recordDate) {
+        jdbcTemplate.update("""
+                INSERT INTO mountain_day_counts (mountain_id, record_date, mountain_name, record_count, updated_at)
+                VALUES (?, ?, ?, 1, NOW(6))
+                ON DUPLICATE KEY UPDATE record_count = record_count + 1,
+                                        mountain_name = VALUES(mountain_name), updated_at = NOW(6)
+                """, mountainId, Date.valueOf(recordDate), mountainName);
+    }
+
+    public void decrement(Long mountainId, LocalDate recordDate) {
+        jdbcTemplate.update("""
+                UPDATE mountain_day_counts
+                SET record_count = GREATEST(record_count - 1, 0), updated_at = NOW(6)
+                WHERE mountain_id = ? AND record_date = ?
+                """, mountainId, Date.valueOf(recordDate));
+    }
+
+    /**
+     * since 이후 버킷을 record_hikings 기준으로 다시 쓰고, since 이전 버킷은 삭제
+     *
+     * @return 삭제한 오래된 버킷 수
+     */
+    public int reconcileSince(LocalDate since) {
+        Date from = Date.valueOf(since);
+        jdbcTemplate.update("""
+                INSERT INTO mountain_day_counts (mountain_id, record_date, mountain_name, record_count, updated_at)
+                SELECT mountain_id, record_date, MAX(mountain_name), COUNT(*), NOW(6)
+                FROM record_hikings
+                WHERE record_date >= ? AND mountain_id IS NOT NULL
+                GROUP BY mountain_id, record_date
+                ON DUPLICATE KEY UPDATE record_count = VALUES(record_count),
+                                        mountain_name = VALUES(mountain_name), updated_at = NOW(6)
+                """, from);
+        jdbcTemplate.update("""
+                UPDATE mountain_day_counts c
+                LEFT JOIN (
+                    SELECT DISTINCT mountain_id, record_date
+                    FROM record_hikings
+                    WHERE record_date >= ? AND mountain_id IS NOT NULL
+                ) r ON r.mountain_id = c.mountain_id AND r.record_date = c.record_date
+                SET c.record_count = 0, c.updated_at = NOW(6)
+                WHERE c.record_date >= ? AND r.mountain_id IS NULL AND c.record_count <> 0
+                """, from, from);
+        return jdbcTemplate.update("DELETE FROM mountain_day_counts WHERE record_date < ?", from);
+    }
+}
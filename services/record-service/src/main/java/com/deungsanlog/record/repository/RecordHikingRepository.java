@@ -15,35 +15,8 @@ public interface RecordHikingRepository extends JpaRepository<RecordHiking, Long
 
     Page<RecordHiking> findByUserId(Long userId, Pageable pageable);
 
-    @Query(value = """
-            SELECT user_id, COUNT(*) as cnt
-            FROM record_hikings
-            GROUP BY user_id
-            ORDER BY cnt DESC
-            LIMIT 10
-            """, nativeQuery = true)
-    List<Object[]> findTopRankers();
-
-    @Query(value = """
-            SELECT r.rank, r.user_id, r.record_count FROM (
-                SELECT user_id, COUNT(*) as record_count,
-                       RANK() OVER (ORDER BY COUNT(*) DESC) as `rank`
-                FROM record_hikings
-                GROUP BY user_id
-            ) r
-            WHERE r.user_id = :userId
-            """, nativeQuery = true)
-    Object[] findMyRanking(@Param("userId") Long userId);
-
-    @Query(value = """
-            SELECT COUNT(*) FROM (
-              SELECT user_id, COUNT(*) AS cnt
-              FROM record_hikings
-              GROUP BY user_id
-              HAVING cnt > :count
-            ) AS higher
-            """, nativeQuery = true)
-    int countUsersWithMoreRecords(@Param("count") int count);
+    // 사진은 내용 해시로 공유되므로 파일 삭제 전 사용 중인 기록이 있는지 확인
+    boolean existsByPhotoUrl(String photoUrl);
 
     @Query(value = """
             SELECT r.rank, r.mountain_id, r.mountain_name, r.record_count FROM (
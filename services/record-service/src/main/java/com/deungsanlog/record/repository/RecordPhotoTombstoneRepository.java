@@ -0,0 +1,57 @@
+package com.deungsanlog.record.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 후보 사진 (record_photo_tombstones)
+ * 기록 삭제/사진 교체와 같은 트랜잭션에 기록 → 롤백되면 후보도 사라짐
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordPhotoTombstoneRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 삭제 후보 등록 (이미 있으면 유예 시간을 다시 시작)
+     */
+    public void mark(String photoUrl) {
+        jdbcTemplate.update("""
+                INSERT INTO record_photo_tombstones (photo_url, created_at)
+                VALUES (?, NOW(6))
+                ON DUPLICATE KEY UPDATE created_at = NOW(6)
+                """, photoUrl);
+    }
+
+    /**
+     * 등록된 지 age 이상 지난 후보 (오래된 순)
+     */
+    public List<Tombstone> findOlderThan(Duration age, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT photo_url, created_at FROM record_photo_tombstones
+                        WHERE created_at < NOW(6) - INTERVAL ? SECOND
+                        ORDER BY created_at
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new Tombstone(rs.getString(1), rs.getTimestamp(2).toLocalDateTime()),
+                age.toSeconds(), limit);
+    }
+
+    /**
+     * 처리한 후보 제거 (그 사이 다시 등록된 후보는 남김)
+     */
+    public void remove(Tombstone tombstone) {
+        jdbcTemplate.update("DELETE FROM record_photo_tombstones WHERE photo_url = ? AND created_at = ?",
+                tombstone.photoUrl(), Timestamp.valueOf(tombstone.createdAt()));
+    }
+
+    public record Tombstone(String photoUrl, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.deungsanlog.record.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 등산 기록 수 (user_record_counts)
+ * 기록 생성/삭제와 같은 트랜잭션에서 갱신하고, 주기적으로 record_hikings 기준으로 보정
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserRecordCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int findRecordCount(Long userId) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT record_count FROM user_record_counts WHERE user_id = ?", Integer.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    /**
+     * 여러 사용자 기록 수 (카운터가 없는 사용자는 결과에 없음)
+     */
+    public Map<Long, Integer> findRecordCounts(Collection<Long> userIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        jdbcTemplate.query("SELECT user_id, record_count FROM user_record_counts WHERE user_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> counts.put(rs.getLong(1), rs.getInt(2)),
+                userIds.toArray());
+        return counts;
+    }
+
+    /**
+     * 카운터 전체 (userId → 기록 수/버전) - 기록이 0인 사용자도 버전 비교를 위해 포함
+     */
+    public Map<Long, Count> findAll() {
+        Map<Long, Count> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, record_count, version FROM user_record_counts",
+                (RowCallbackHandler) rs -> counts.put(rs.getLong(1), new Count(rs.getInt(2), rs.getLong(3))));
+        return counts;
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM user_record_counts LIMIT 1", Integer.class).isEmpty();
+    }
+
+    /**
+     * 카운터 1 증가 (행이 없으면 1로 생성) 후 갱신된 값
+     * 트랜잭션이 끝날 때까지 행 잠금이 유지되므로 반환 값이 곧 커밋될 값
+     */
+    public Count increment(Long userId) {
+        jdbcTemplate.update("""
+                INSERT INTO user_record_counts (user_id, record_count, version, updated_at)
+                VALUES (?, 1, 1, NOW(6))
+                ON DUPLICATE KEY UPDATE record_count = record_count + 1, version = version + 1, updated_at = NOW(6)
+                """, userId);
+        return findCount(userId).orElseThrow();
+    }
+
+    /**
+     * 카운터 1 감소 후 갱신된 값 (행이 없으면 empty)
+     */
+    public Optional<Count> decrement(Long userId) {
+        int updated = jdbcTemplate.update("""
+                UPDATE user_record_counts
+                SET record_count = GREATEST(record_count - 1, 0), version = version + 1, updated_at = NOW(6)
+                WHERE user_id = ?
+                """, userId);
+        return updated == 0 ? Optional.empty() : findCount(userId);
+    }
+
+    private Optional<Count> findCount(Long userId) {
+        return jdbcTemplate.query("SELECT record_count, version FROM user_record_counts WHERE user_id = ?",
+                (rs, rowNum) -> new Count(rs.getInt(1), rs.getLong(2)), userId).stream().findFirst();
+    }
+
+    /**
+     * record_hikings 기준으로 전체 카운터를 다시 씀 (없는 사용자는 생성, 기록이 모두 지워진 사용자는 0)
+     *
+     * @return 기록이 모두 지워져 0으로 맞춘 사용자 수
+     */
+    public int reconcileAll() {
+        jdbcTemplate.update("""
+                INSERT INTO user_record_counts (user_id, record_count, updated_at)
+                SELECT user_id, COUNT(*), NOW(6)
+                FROM record_hikings
+                WHERE user_id IS NOT NULL
+                GROUP BY user_id
+                ON DUPLICATE KEY UPDATE record_count = VALUES(record_count), version = version + 1, updated_at = NOW(6)
+                """);
+        return jdbcTemplate.update("""
+                UPDATE user_record_counts c
+                LEFT JOIN (SELECT DISTINCT user_id FROM record_hikings) r ON r.user_id = c.user_id
+                SET c.record_count = 0, c.version = c.version + 1, c.updated_at = NOW(6)
+                WHERE r.user_id IS NULL AND c.record_count <> 0
+                """);
+    }
+
+    /**
+     * 기록 수와 행 버전 (변경마다 1 증가)
+     */
+    public record Count(int recordCount, long version) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.deungsanlog.record.scheduler;
+
+import com.deungsanlog.record.repository.MountainDayCountRepository;
+import com.deungsanlog.record.repository.UserRecordCountRepository;
+import com.deungsanlog.record.service.HotMountainService;
+import com.deungsanlog.record.service.RecordLeaderboard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+/**
+ * 기록 수 카운터(사용자별 / 산별 일자 버킷) 정합성 보정
+ * 카운터 갱신 누락(장애, 수동 데이터 수정 등)으로 생긴 차이를 record_hikings 기준으로 매일 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordCountReconciler {
+
+    private final UserRecordCountRepository userRecordCountRepository;
+    private final RecordLeaderboard recordLeaderboard;
+    private final MountainDayCountRepository mountainDayCountRepository;
+    private final HotMountainService hotMountainService;
+
+    @Scheduled(cron = "${record.leaderboard.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        log.info("🔄 사용자 기록 수 보정 시작");
+        try {
+            int cleared = userRecordCountRepository.reconcileAll();
+            recordLeaderboard.reload();
+            log.info("✅ 사용자 기록 수 보정 완료: 기록 없는 사용자 {}명 0으로 정리", cleared);
+        } catch (Exception e) {
+            log.error("❌ 사용자 기록 수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 가장 긴 인기 산 기간(+1일)만큼 버킷을 다시 쓰고 그 이전 버킷은 삭제
+     */
+    @Scheduled(cron = "${record.hot-mountains.reconcile-cron:0 50 4 * * *}")
+    public void reconcileMountainDayCounts() {
+        log.info("🔄 산별 일자 기록 수 보정 시작");
+        try {
+            int maxWindow = Collections.max(hotMountainService.getWindows());
+            int pruned = mountainDayCountRepository.reconcileSince(LocalDate.now().minusDays(maxWindow + 1));
+            hotMountainService.refresh();
+            log.info("✅ 산별 일자 기록 수 보정 완료: 오래된 버킷 {}개 삭제", pruned);
+        } catch (Exception e) {
+            log.error("❌ 산별 일자 기록 수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
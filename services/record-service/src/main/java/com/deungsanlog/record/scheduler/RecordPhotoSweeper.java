@@ -0,0 +1,69 @@
+package com.deungsanlog.record.scheduler;
+
+import com.deungsanlog.record.repository.RecordHikingRepository;
+import com.deungsanlog.record.repository.RecordPhotoTombstoneRepository;
+import com.deungsanlog.record.repository.RecordPhotoTombstoneRepository.Tombstone;
+import com.deungsanlog.record.service.RecordPhotoStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 참조가 끊긴 사진 파일 정리
+ * 사진은 SHA-256 파일명으로 여러 기록이 공유하므로 삭제 시점에 바로 지우지 않고,
+ * 유예 시간이 지난 뒤 (1) 참조하는 기록이 없고 (2) 그 사이 같은 사진 업로드로 재사용되지 않았을 때만 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordPhotoSweeper {
+
+    private final RecordPhotoTombstoneRepository tombstoneRepository;
+    private final RecordHikingRepository recordHikingRepository;
+    private final RecordPhotoStorage recordPhotoStorage;
+
+    @Value("${record.photo-sweeper.grace-ms:600000}")
+    private long graceMs;
+
+    @Value("${record.photo-sweeper.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${record.photo-sweeper.interval-ms:600000}",
+            fixedDelayString = "${record.photo-sweeper.interval-ms:600000}")
+    public void sweep() {
+        Duration grace = Duration.ofMillis(graceMs);
+        List<Tombstone> due;
+        try {
+            due = tombstoneRepository.findOlderThan(grace, batchSize);
+        } catch (Exception e) {
+            log.error("❌ 삭제 후보 사진 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        int deleted = 0;
+        for (Tombstone tombstone : due) {
+            try {
+                String photoUrl = tombstone.photoUrl();
+                if (recordHikingRepository.existsByPhotoUrl(photoUrl)) {
+                    tombstoneRepository.remove(tombstone); // 다른 기록이 사용 중
+                } else if (recordPhotoStorage.deleteUnlessRecentlyStored(photoUrl, grace)) {
+                    tombstoneRepository.remove(tombstone);
+                    deleted++;
+                } else {
+                    // 같은 사진이 방금 다시 업로드됨 - 기록 저장이 끝난 뒤 다음 주기에 다시 확인
+                    log.debug("삭제 후보 사진 재사용 중 - 다음 주기에 확인: {}", photoUrl);
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ 사진 정리 실패: {}, error={}", tombstone.photoUrl(), e.getMessage());
+            }
+        }
+        if (!due.isEmpty()) {
+            log.info("🧹 사진 정리: 후보 {}개, 파일 삭제 {}개", due.size(), deleted);
+        }
+    }
+}
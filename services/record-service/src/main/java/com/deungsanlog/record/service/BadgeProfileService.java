@@ -4,26 +4,84 @@ import com.deungsanlog.record.client.UserClient;
 import com.deungsanlog.record.domain.RecordBadgeStage;
 import com.deungsanlog.record.dto.BadgeProfileDto;
 import com.deungsanlog.record.repository.RecordBadgeStageRepository;
-import com.deungsanlog.record.repository.RecordHikingRepository;
+import com.deungsanlog.record.repository.UserRecordCountRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BadgeProfileService {
 
-    private final RecordHikingRepository recordHikingRepository;
+    private final UserRecordCountRepository userRecordCountRepository;
     private final RecordBadgeStageRepository badgeStageRepository;
     private final UserClient userClient;
 
-    public BadgeProfileDto getBadgeProfile(Long userId) {
-        int recordCount = recordHikingRepository.countByUserId(userId);
-        int stage = calculateStage(recordCount);
+    // 단계 번호 → 뱃지 (record_badge_stages 는 고정 데이터라 시작 시 한 번만 읽음)
+    private volatile RecordBadgeStage[] stages;
 
-        RecordBadgeStage badgeStage = badgeStageRepository.findByStage(stage)
-                .orElseThrow(() -> new IllegalArgumentException("해당 단계의 뱃지를 찾을 수 없습니다."));
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadStages() {
+        try {
+            getStages();
+        } catch (Exception e) {
+            log.error("❌ 뱃지 단계 로딩 실패 - 첫 조회 시 다시 시도: {}", e.getMessage());
+        }
+    }
 
+    public BadgeProfileDto getBadgeProfile(Long userId) {
+        int recordCount = userRecordCountRepository.findRecordCount(userId);
         String nickname = userClient.getNickname(userId);
+        return toProfile(recordCount, nickname);
+    }
+
+    /**
+     * 여러 사용자 뱃지 일괄 조회 (기록 수 1회 + 닉네임 1회 조회)
+     * 닉네임 조회 실패 시 닉네임만 비워서 응답
+     */
+    public Map<Long, BadgeProfileDto> getBadgeProfiles(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> recordCounts = userRecordCountRepository.findRecordCounts(ids);
+        Map<Long, String> nicknames;
+        try {
+            nicknames = userClient.getNicknames(ids);
+        } catch (Exception e) {
+            log.error("❌ 뱃지 닉네임 일괄 조회 실패: count={}, error={}", ids.size(), e.getMessage());
+            nicknames = Map.of();
+        }
+
+        Map<Long, BadgeProfileDto> profiles = new LinkedHashMap<>();
+        for (Long userId : ids) {
+            profiles.put(userId, toProfile(recordCounts.getOrDefault(userId, 0), nicknames.get(userId)));
+        }
+        return profiles;
+    }
+
+    private BadgeProfileDto toProfile(int recordCount, String nickname) {
+        int stage = calculateStage(recordCount);
+        RecordBadgeStage[] current = getStages();
+        RecordBadgeStage badgeStage = stage < current.length ? current[stage] : null;
+        if (badgeStage == null) {
+            throw new IllegalArgumentException("해당 단계의 뱃지를 찾을 수 없습니다.");
+        }
 
         return BadgeProfileDto.builder()
                 .stage(badgeStage.getStage())
@@ -33,6 +91,21 @@ public class BadgeProfileService {
                 .build();
     }
 
+    private RecordBadgeStage[] getStages() {
+        RecordBadgeStage[] current = stages;
+        if (current == null) {
+            List<RecordBadgeStage> all = badgeStageRepository.findAll();
+            int maxStage = all.stream().mapToInt(RecordBadgeStage::getStage).max().orElse(0);
+            current = new RecordBadgeStage[maxStage + 1];
+            for (RecordBadgeStage badgeStage : all) {
+                current[badgeStage.getStage()] = badgeStage;
+            }
+            stages = current;
+            log.info("🏅 뱃지 단계 로딩: {}개", all.size());
+        }
+        return current;
+    }
+
     private int calculateStage(int count) {
         if (count >= 50) return 9;
         if (count >= 30) return 8;
@@ -1,30 +1,172 @@
 package com.deungsanlog.record.service;
 
 import com.deungsanlog.record.dto.HotMountainResponse;
-import com.deungsanlog.record.repository.RecordHikingRepository;
-import lombok.RequiredArgsConstructor;
+import com.deungsanlog.record.repository.MountainDayCountRepository;
+import com.deungsanlog.record.repository.MountainDayCountRepository.DayCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
+/**
+ * 인기 산 순위 (최근 N일 등산 기록 수, DENSE_RANK)
+ * - 산별 일자 버킷(mountain_day_counts)을 주기적으로 읽어 기간(7/30/90일 등)별 합계를 한 번에 계산
+ * - 기간별 상위 산 목록을 메모리에 두고 요청마다 그대로 응답
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class HotMountainService {
 
-    private final RecordHikingRepository recordHikingRepository;
+    private final MountainDayCountRepository mountainDayCountRepository;
+    private final Set<Integer> windows;
+    private final int defaultWindow;
+    private final int maxRank;
+
+    private volatile Map<Integer, List<HotMountainResponse>> rankings = Map.of();
+
+    public HotMountainService(MountainDayCountRepository mountainDayCountRepository,
+                              @Value("${record.hot-mountains.windows:7,30,90}") List<Integer> windows,
+                              @Value("${record.hot-mountains.default-window:30}") int defaultWindow,
+                              @Value("${record.hot-mountains.max-rank:1000}") int maxRank) {
+        this.mountainDayCountRepository = mountainDayCountRepository;
+        this.windows = Collections.unmodifiableSet(new TreeSet<>(windows));
+        this.defaultWindow = defaultWindow;
+        this.maxRank = maxRank;
+    }
 
     public List<HotMountainResponse> getHotMountains(int limit) {
-        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-        List<Object[]> result = recordHikingRepository.findRankedHotMountains(oneMonthAgo, limit);
-
-        return result.stream()
-                .map(r -> new HotMountainResponse(
-                        ((Number) r[0]).intValue(),      // rank
-                        ((Number) r[1]).longValue(),     // mountainId
-                        (String) r[2],                   // mountainName
-                        ((Number) r[3]).longValue()      // recordCount
-                ))
+        return getHotMountains(defaultWindow, limit);
+    }
+
+    /**
+     * 최근 days 일 기준 순위가 limit 이내인 산 (같은 순위는 모두 포함)
+     */
+    public List<HotMountainResponse> getHotMountains(int days, int limit) {
+        List<HotMountainResponse> ranking = rankings.getOrDefault(days, List.of());
+        int end = 0;
+        while (end < ranking.size() && ranking.get(end).rank() <= limit) {
+            end++;
+        }
+        return ranking.subList(0, end);
+    }
+
+    public boolean isSupportedWindow(int days) {
+        return windows.contains(days);
+    }
+
+    public Set<Integer> getWindows() {
+        return windows;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (mountainDayCountRepository.isEmpty()) {
+                // 테이블 도입 직후: record_hikings 에서 가장 긴 기간만큼 채움
+                mountainDayCountRepository.reconcileSince(windowStart(maxWindow()));
+                log.info("🔥 산별 일자 기록 수 초기 적재 완료");
+            }
+        } catch (Exception e) {
+            log.error("❌ 산별 일자 기록 수 초기 적재 실패: {}", e.getMessage());
+        }
+        refresh();
+    }
+
+    /**
+     * 버킷을 읽어 기간별 순위 재계산
+     */
+    @Scheduled(initialDelayString = "${record.hot-mountains.refresh-ms:300000}",
+            fixedDelayString = "${record.hot-mountains.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            List<DayCount> buckets = mountainDayCountRepository.findSince(windowStart(maxWindow()));
+
+            // 산별 기간 합계: 버킷 한 번 훑으며 해당하는 기간 모두에 더함
+            List<Integer> sortedWindows = new ArrayList<>(windows);
+            List<LocalDate> starts = sortedWindows.stream().map(this::windowStart).toList();
+            Map<Long, long[]> sums = new HashMap<>();
+            Map<Long, DayCount> latest = new HashMap<>();
+            for (DayCount bucket : buckets) {
+                long[] mountainSums = sums.computeIfAbsent(bucket.mountainId(), id -> new long[sortedWindows.size()]);
+                for (int i = 0; i < starts.size(); i++) {
+                    if (!bucket.recordDate().isBefore(starts.get(i))) {
+                        mountainSums[i] += bucket.recordCount();
+                    }
+                }
+                latest.merge(bucket.mountainId(), bucket,
+                        (a, b) -> b.recordDate().isAfter(a.recordDate()) ? b : a);
+            }
+
+            Map<Integer, List<HotMountainResponse>> next = new HashMap<>();
+            for (int i = 0; i < sortedWindows.size(); i++) {
+                next.put(sortedWindows.get(i), rank(sums, latest, i));
+            }
+            rankings = Map.copyOf(next);
+            log.debug("🔥 인기 산 순위 갱신: 버킷 {}개, 산 {}개", buckets.size(), sums.size());
+        } catch (Exception e) {
+            log.error("❌ 인기 산 순위 갱신 실패 - 기존 순위 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기간 하나의 DENSE_RANK 목록 (maxRank 이내만)
+     */
+    private List<HotMountainResponse> rank(Map<Long, long[]> sums, Map<Long, DayCount> latest, int window) {
+        Comparator<Map.Entry<Long, long[]>> order = Comparator
+                .comparingLong((Map.Entry<Long, long[]> entry) -> entry.getValue()[window])
+                .reversed()
+                .thenComparing(Map.Entry::getKey);
+
+        // 서로 다른 기록 수 상위 maxRank 개만 유지 → 그 최솟값 이상인 산만 정렬
+        TreeSet<Long> topCounts = new TreeSet<>();
+        for (long[] mountainSums : sums.values()) {
+            long count = mountainSums[window];
+            if (count > 0 && topCounts.add(count) && topCounts.size() > maxRank) {
+                topCounts.pollFirst();
+            }
+        }
+        if (topCounts.isEmpty()) {
+            return List.of();
+        }
+        long minCount = topCounts.first();
+
+        List<Map.Entry<Long, long[]>> entries = sums.entrySet().stream()
+                .filter(entry -> entry.getValue()[window] >= minCount)
+                .sorted(order)
                 .toList();
+
+        List<HotMountainResponse> ranking = new ArrayList<>(entries.size());
+        int rank = 0;
+        long previous = -1;
+        for (Map.Entry<Long, long[]> entry : entries) {
+            long count = entry.getValue()[window];
+            if (count != previous) {
+                rank++;
+                previous = count;
+            }
+            ranking.add(new HotMountainResponse(rank, entry.getKey(),
+                    latest.get(entry.getKey()).mountainName(), count));
+        }
+        return List.copyOf(ranking);
+    }
+
+    private LocalDate windowStart(int days) {
+        return LocalDate.now().minusDays(days);
+    }
+
+    private int maxWindow() {
+        return Collections.max(windows);
     }
-}
\ No newline at end of file
+}
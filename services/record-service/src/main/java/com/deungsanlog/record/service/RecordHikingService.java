@@ -2,30 +2,43 @@ package com.deungsanlog.record.service;
 
 import com.deungsanlog.record.domain.RecordHiking;
 import com.deungsanlog.record.dto.RecordHikingResponse;
+import com.deungsanlog.record.event.RecordCountChangedEvent;
+import com.deungsanlog.record.repository.MountainDayCountRepository;
 import com.deungsanlog.record.repository.RecordHikingRepository;
+import com.deungsanlog.record.repository.RecordPhotoTombstoneRepository;
+import com.deungsanlog.record.repository.UserRecordCountRepository;
+import com.deungsanlog.record.repository.UserRecordCountRepository.Count;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecordHikingService {
 
     private final RecordHikingRepository recordHikingRepository;
-
-    @Value("${record.upload-path}")
-    private String uploadDir;
-
+    private final UserRecordCountRepository userRecordCountRepository;
+    private final MountainDayCountRepository mountainDayCountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecordPhotoStorage recordPhotoStorage;
+    private final RecordPhotoTombstoneRepository recordPhotoTombstoneRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Transactional
     public void create(Long userId, Long mountainId, String mountainName, LocalDate date, String content, MultipartFile photo) {
         System.out.println("📩 등산 기록 생성 요청 받음!");
         System.out.println("👤 userId: " + userId);
@@ -35,19 +48,9 @@ public class RecordHikingService {
         System.out.println("📝 content: " + content);
         System.out.println("📷 photo.originalFilename: " + photo.getOriginalFilename());
 
-        String fileName = UUID.randomUUID() + "_" + photo.getOriginalFilename();
-        Path filePath = Paths.get(uploadDir, fileName);
-
-        System.out.println("📂 실제 파일 저장 경로: " + filePath.toAbsolutePath());
-
-        try {
-            Files.createDirectories(Paths.get(uploadDir));
-            Files.copy(photo.getInputStream(), filePath);
-            System.out.println("✅ 파일 저장 성공: " + filePath.toAbsolutePath());
-            System.out.println("✅ 파일 존재 여부: " + Files.exists(filePath));
-        } catch (IOException e) {
-            throw new RuntimeException("사진 저장 실패", e);
-        }
+        String photoUrl = recordPhotoStorage.store(photo);
+        tombstoneOnRollback(photoUrl);
+        log.info("📷 기록 사진 저장: userId={}, photoUrl={}", userId, photoUrl);
 
         RecordHiking record = RecordHiking.builder()
                 .userId(userId)
@@ -55,62 +58,107 @@ public class RecordHikingService {
                 .mountainName(mountainName)
                 .recordDate(date)
                 .content(content)
-                .photoUrl("/uploads/" + fileName)
+                .photoUrl(photoUrl)
                 .build();
 
         recordHikingRepository.save(record);
+
+        // 랭킹용 기록 수 (같은 트랜잭션)
+        Count count = userRecordCountRepository.increment(userId);
+        eventPublisher.publishEvent(new RecordCountChangedEvent(userId, count.recordCount(), count.version()));
+        if (mountainId != null) {
+            mountainDayCountRepository.increment(mountainId, mountainName, date);
+        }
     }
 
     public RecordHikingResponse getRecordById(Long recordId) {
         RecordHiking record = recordHikingRepository.findById(recordId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 기록이 없습니다."));
-        return RecordHikingResponse.from(record);
+        return RecordHikingResponse.from(record, imageVariantGenerator.variantUrls(record.getPhotoUrl()));
     }
 
     public Page<RecordHikingResponse> getRecordsByUser(Long userId, Pageable pageable) {
         return recordHikingRepository.findByUserId(userId, pageable)
-                .map(RecordHikingResponse::from);
+                .map(record -> RecordHikingResponse.from(record,
+                        imageVariantGenerator.variantUrls(record.getPhotoUrl())));
     }
 
+    @Transactional
     public void edit(Long recordId, String mountainName, LocalDate recordDate, String content, MultipartFile photo) {
         RecordHiking record = recordHikingRepository.findById(recordId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 기록이 없습니다."));
 
+        // 날짜/산 이름이 바뀌면 인기 산 버킷 이동
+        if (record.getMountainId() != null && (recordDate != null || mountainName != null)) {
+            mountainDayCountRepository.decrement(record.getMountainId(), record.getRecordDate());
+            mountainDayCountRepository.increment(record.getMountainId(),
+                    mountainName != null ? mountainName : record.getMountainName(),
+                    recordDate != null ? recordDate : record.getRecordDate());
+        }
+
         if (mountainName != null) record.setMountainName(mountainName);
         if (recordDate != null) record.setRecordDate(recordDate);
         if (content != null) record.setContent(content);
 
         if (photo != null && !photo.isEmpty()) {
-            String fileName = UUID.randomUUID() + "_" + photo.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
-            try {
-                Files.createDirectories(Paths.get(uploadDir));
-                Files.copy(photo.getInputStream(), filePath);
-                record.setPhotoUrl("/uploads/" + fileName);
-            } catch (IOException e) {
-                throw new RuntimeException("사진 저장 실패", e);
+            String previousPhotoUrl = record.getPhotoUrl();
+            record.setPhotoUrl(recordPhotoStorage.store(photo));
+            tombstoneOnRollback(record.getPhotoUrl());
+            // 교체된 사진은 삭제 후보로 (다른 기록이 쓰지 않으면 RecordPhotoSweeper 가 정리)
+            if (previousPhotoUrl != null && !previousPhotoUrl.equals(record.getPhotoUrl())) {
+                recordPhotoTombstoneRepository.mark(previousPhotoUrl);
             }
         }
 
         recordHikingRepository.save(record);
     }
 
+    @Transactional
     public void delete(Long recordId) {
         RecordHiking record = recordHikingRepository.findById(recordId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 기록이 없습니다."));
 
-        String photoUrl = record.getPhotoUrl();
-        if (photoUrl != null && !photoUrl.isBlank()) {
-            // /uploads/uuid_파일명 형태이므로 마지막 파일명만 추출
-            String fileName = Paths.get(photoUrl).getFileName().toString();
-            Path filePath = Paths.get(uploadDir, fileName);
-            try {
-                Files.deleteIfExists(filePath);
-            } catch (IOException e) {
-                System.err.println("사진 파일 삭제 실패: " + filePath);
-            }
+        recordHikingRepository.deleteById(recordId);
+
+        // 사진 파일은 다른 기록과 공유될 수 있으므로 삭제 후보로만 남김 (같은 트랜잭션 - 롤백되면 후보도 취소)
+        // 실제 삭제는 RecordPhotoSweeper 가 커밋 후 유예 시간이 지나 참조를 다시 확인한 뒤 수행
+        if (record.getPhotoUrl() != null) {
+            recordPhotoTombstoneRepository.mark(record.getPhotoUrl());
         }
 
-        recordHikingRepository.deleteById(recordId);
+        if (record.getUserId() != null) {
+            userRecordCountRepository.decrement(record.getUserId())
+                    .ifPresent(count -> eventPublisher.publishEvent(new RecordCountChangedEvent(
+                            record.getUserId(), count.recordCount(), count.version())));
+        }
+        if (record.getMountainId() != null) {
+            mountainDayCountRepository.decrement(record.getMountainId(), record.getRecordDate());
+        }
+    }
+
+    /**
+     * 트랜잭션 전에 저장한 사진은 롤백되면 참조할 기록이 없음 → 삭제 후보로 등록
+     * 롤백된 트랜잭션의 연결은 쓸 수 없으므로 새 트랜잭션에서 등록 (다른 기록이 같은 사진을 쓰면 RecordPhotoSweeper 가 남김)
+     */
+    private void tombstoneOnRollback(String photoUrl) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+                    requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                    requiresNew.executeWithoutResult(tx -> recordPhotoTombstoneRepository.mark(photoUrl));
+                    log.info("🧹 롤백된 기록의 사진을 삭제 후보로 등록: {}", photoUrl);
+                } catch (Exception e) {
+                    log.warn("⚠️ 롤백된 기록의 사진 삭제 후보 등록 실패: {}, error={}", photoUrl, e.getMessage());
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,236 @@
+package com.deungsanlog.record.service;
+
+import com.deungsanlog.record.event.RecordCountChangedEvent;
+import com.deungsanlog.record.repository.UserRecordCountRepository;
+import com.deungsanlog.record.repository.UserRecordCountRepository.Count;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 등산 기록 수 랭킹 (메모리)
+ * - 기록 수별 사용자 수를 펜윅 트리로 관리 → 내 순위 = (나보다 기록 많은 사용자 수) + 1, O(log n)
+ * - 상위 K명은 기록 수 내림차순 맵을 앞에서부터 읽음
+ * - 동점 처리는 기존 RANK() 와 같음 (1, 1, 3 ...)
+ * - 이 인스턴스의 생성/삭제는 커밋 후 바로 반영, 다른 인스턴스 변경은 user_record_counts 주기적 재적재로 반영
+ * - 사용자별 값에는 행 버전이 붙어 있어 스냅샷과 이벤트 중 버전이 더 큰 값만 남김
+ *   (재적재 중 들어온 이벤트는 새 랭킹에 다시 적용 → 유실/중복 반영 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordLeaderboard {
+
+    private final UserRecordCountRepository userRecordCountRepository;
+
+    private final Object reloadLock = new Object();
+
+    private Board board = new Board(Map.of());
+    // 재적재 시작 이후 반영한 이벤트 (userId → 값) - 새 랭킹으로 바꿀 때 다시 적용
+    private Map<Long, Count> changedDuringReload = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (userRecordCountRepository.isEmpty()) {
+                // 테이블 도입 직후: record_hikings 에서 한 번 채움
+                userRecordCountRepository.reconcileAll();
+                log.info("🏆 사용자 기록 수 테이블 초기 적재 완료");
+            }
+        } catch (Exception e) {
+            log.error("❌ 사용자 기록 수 테이블 초기 적재 실패: {}", e.getMessage());
+        }
+        reload();
+    }
+
+    /**
+     * user_record_counts 전체를 읽어 랭킹을 새로 구성 (다른 인스턴스 변경/보정 결과 반영)
+     * DB 조회는 잠금 밖에서 하고, 그동안 반영된 이벤트는 교체 시점에 버전을 비교해 새 랭킹에 다시 적용
+     */
+    @Scheduled(initialDelayString = "${record.leaderboard.reload-ms:60000}",
+            fixedDelayString = "${record.leaderboard.reload-ms:60000}")
+    public void reload() {
+        synchronized (reloadLock) {
+            try {
+                synchronized (this) {
+                    changedDuringReload = new HashMap<>();
+                }
+                Board next = new Board(userRecordCountRepository.findAll());
+                synchronized (this) {
+                    changedDuringReload.forEach(next::apply);
+                    board = next;
+                }
+                log.debug("🏆 랭킹 재적재: 사용자 {}명", next.userCount());
+            } catch (Exception e) {
+                log.error("❌ 랭킹 재적재 실패 - 기존 랭킹 유지: {}", e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onRecordCountChanged(RecordCountChangedEvent event) {
+        Count count = new Count(event.getRecordCount(), event.getVersion());
+        board.apply(event.getUserId(), count);
+        changedDuringReload.merge(event.getUserId(), count,
+                (a, b) -> b.version() > a.version() ? b : a);
+    }
+
+    /**
+     * rank 가 maxRank 이하인 사용자 전체 (maxRank 등 동점자 모두 포함)
+     */
+    public synchronized List<Ranker> getTopRankers(int maxRank) {
+        return board.top(maxRank);
+    }
+
+    /**
+     * 내 순위 (기록이 없으면 null)
+     */
+    public synchronized Ranker getRanker(Long userId) {
+        return board.ranker(userId);
+    }
+
+    public record Ranker(int rank, Long userId, int recordCount) {
+    }
+
+    /**
+     * 랭킹 자료구조 - 호출 측(RecordLeaderboard)에서 동기화
+     */
+    static final class Board {
+        private final Map<Long, Integer> counts = new HashMap<>();
+        // 기록이 0이 된 사용자도 버전은 유지 (늦게 도착한 이전 버전 값을 무시하기 위함)
+        private final Map<Long, Long> versions = new HashMap<>();
+        private final NavigableMap<Integer, TreeSet<Long>> usersByCount = new TreeMap<>();
+        private CountTree tree = new CountTree(16);
+
+        Board(Map<Long, Count> initial) {
+            initial.forEach((userId, count) -> {
+                versions.put(userId, count.version());
+                if (count.recordCount() > 0) {
+                    add(userId, count.recordCount());
+                }
+            });
+        }
+
+        int userCount() {
+            return counts.size();
+        }
+
+        /**
+         * 가지고 있는 값보다 버전이 클 때만 반영
+         */
+        void apply(Long userId, Count count) {
+            Long current = versions.get(userId);
+            if (current != null && current >= count.version()) {
+                return;
+            }
+            versions.put(userId, count.version());
+            int before = counts.getOrDefault(userId, 0);
+            int after = Math.max(count.recordCount(), 0);
+            if (before == after) {
+                return;
+            }
+            if (before > 0) {
+                remove(userId, before);
+            }
+            if (after > 0) {
+                add(userId, after);
+            }
+        }
+
+        private void add(Long userId, int count) {
+            counts.put(userId, count);
+            usersByCount.computeIfAbsent(count, key -> new TreeSet<>()).add(userId);
+            if (count > tree.capacity()) {
+                tree = tree.grow(count, usersByCount);
+            } else {
+                tree.add(count, 1);
+            }
+        }
+
+        private void remove(Long userId, int count) {
+            counts.remove(userId);
+            TreeSet<Long> users = usersByCount.get(count);
+            users.remove(userId);
+            if (users.isEmpty()) {
+                usersByCount.remove(count);
+            }
+            tree.add(count, -1);
+        }
+
+        Ranker ranker(Long userId) {
+            Integer count = userId == null ? null : counts.get(userId);
+            if (count == null) {
+                return null;
+            }
+            // 나보다 기록이 많은 사용자 = 전체 - (기록 수 ≤ 내 기록 수)
+            int higher = counts.size() - tree.prefixSum(count);
+            return new Ranker(higher + 1, userId, count);
+        }
+
+        List<Ranker> top(int maxRank) {
+            List<Ranker> rankers = new ArrayList<>();
+            int seen = 0;
+            for (Map.Entry<Integer, TreeSet<Long>> entry : usersByCount.descendingMap().entrySet()) {
+                int rank = seen + 1;
+                if (rank > maxRank) {
+                    break;
+                }
+                for (Long userId : entry.getValue()) {
+                    rankers.add(new Ranker(rank, userId, entry.getKey()));
+                }
+                seen += entry.getValue().size();
+            }
+            return rankers;
+        }
+    }
+
+    /**
+     * 펜윅 트리: 기록 수 c(1..capacity) 별 사용자 수, prefixSum(c) = 기록 수가 c 이하인 사용자 수
+     */
+    private static final class CountTree {
+        private final int[] tree;
+
+        private CountTree(int capacity) {
+            this.tree = new int[capacity + 1];
+        }
+
+        private int capacity() {
+            return tree.length - 1;
+        }
+
+        private void add(int count, int delta) {
+            for (int i = count; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private int prefixSum(int count) {
+            int sum = 0;
+            for (int i = Math.min(count, capacity()); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        /**
+         * 최대 기록 수가 용량을 넘으면 두 배로 늘려 다시 구성
+         */
+        private CountTree grow(int count, NavigableMap<Integer, TreeSet<Long>> usersByCount) {
+            CountTree grown = new CountTree(Math.max(count, capacity() * 2));
+            usersByCount.forEach((c, users) -> grown.add(c, users.size()));
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.deungsanlog.record.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 등산 기록 사진 저장소 (uploadDir)
+ * - 업로드 내용을 한 번 읽으며 메타데이터(EXIF 위치 정보 등)를 걷어내 저장 (원본 URL 도 그대로 서빙되므로)
+ * - 파일 이름은 정리된 내용의 SHA-256 → 같은 사진은 파일 하나를 공유
+ * - 참조가 끊긴 파일은 바로 지우지 않고 삭제 후보로 남긴 뒤 RecordPhotoSweeper 가 정리
+ * - 같은 파일 이름의 저장(재사용)과 정리 삭제는 파일 이름별 잠금으로 직렬화 (이 인스턴스 안에서)
+ * - 저장 후 축소본(썸네일/반응형 너비) 생성은 ImageVariantGenerator 에 맡김
+ */
+@Slf4j
+@Component
+public class RecordPhotoStorage {
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path uploadDir;
+    private final ImageVariantGenerator imageVariantGenerator;
+    // 파일 이름 해시로 나눈 잠금 - store 의 이동/재사용과 deleteUnlessRecentlyStored 의 확인/삭제가 겹치지 않도록
+    private final Object[] fileLocks = new Object[LOCK_STRIPES];
+
+    public RecordPhotoStorage(@Value("${record.upload-path}") String uploadPath,
+                              ImageVariantGenerator imageVariantGenerator) {
+        this.uploadDir = Paths.get(uploadPath).toAbsolutePath();
+        this.imageVariantGenerator = imageVariantGenerator;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            fileLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * 멀티파트 임시 디렉토리(spring.servlet.multipart.location)도 uploadDir 아래에 둠 (같은 디스크, 메모리에 올리지 않음)
+     */
+    @PostConstruct
+    public void createDirectories() throws IOException {
+        Files.createDirectories(uploadDir.resolve(".tmp"));
+    }
+
+    /**
+     * 사진 저장 후 URL(/uploads/{sha256}.{ext}) 반환 - 축소본은 비동기로 생성
+     */
+    public String store(MultipartFile photo) {
+        Path staged = uploadDir.resolve(".upload-" + UUID.randomUUID());
+        try {
+            // 멀티파트 임시 파일 → staged: 메타데이터를 걷어내며 복사하고 그 결과로 해시 계산 (한 번만 읽음)
+            MessageDigest digest = sha256();
+            try (InputStream in = photo.getInputStream();
+                 OutputStream out = new DigestOutputStream(
+                         new BufferedOutputStream(Files.newOutputStream(staged), COPY_BUFFER_SIZE), digest)) {
+                ImageCodec.stripMetadata(in, out);
+            }
+
+            String fileName = HexFormat.of().formatHex(digest.digest()) + extension(photo.getOriginalFilename());
+            Path target = uploadDir.resolve(fileName);
+            synchronized (lockFor(fileName)) {
+                try {
+                    Files.move(staged, target);
+                    log.info("📷 사진 저장: {} ({} bytes)", fileName, photo.getSize());
+                } catch (FileAlreadyExistsException e) {
+                    // 같은 사진이 이미 있음 → 기존 파일 재사용
+                    // 수정 시각을 갱신해 삭제 후보였더라도 RecordPhotoSweeper 가 유예 시간 동안 지우지 않도록 함
+                    try {
+                        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                        Files.deleteIfExists(staged);
+                        log.info("📷 동일 사진 재사용: {}", fileName);
+                    } catch (NoSuchFileException removed) {
+                        // 그 사이 정리된 파일 → 새로 옮김
+                        Files.move(staged, target);
+                        log.info("📷 사진 저장: {} ({} bytes)", fileName, photo.getSize());
+                    }
+                }
+            }
+            imageVariantGenerator.generateAsync(fileName);
+            return URL_PREFIX + fileName;
+        } catch (IOException e) {
+            deleteQuietly(staged);
+            throw new RuntimeException("사진 저장 실패", e);
+        }
+    }
+
+    /**
+     * within 안에 저장(또는 같은 사진으로 재사용)되지 않았으면 사진 파일과 축소본 삭제
+     * 확인과 삭제 사이에 같은 사진 업로드가 끼어들지 못하도록 store 와 같은 잠금 안에서 처리
+     * 파일은 여러 기록이 공유하므로 RecordPhotoSweeper 에서 참조가 없음을 확인한 뒤에만 호출
+     *
+     * @return 삭제했으면 true, 최근에 저장/재사용되어 남겼으면 false
+     */
+    public boolean deleteUnlessRecentlyStored(String photoUrl, Duration within) {
+        if (photoUrl == null || photoUrl.isBlank()) {
+            return true;
+        }
+        // /uploads/파일명 형태이므로 마지막 파일명만 추출
+        String fileName = Paths.get(photoUrl).getFileName().toString();
+        Path filePath = uploadDir.resolve(fileName);
+        synchronized (lockFor(fileName)) {
+            if (isRecentlyStored(filePath, within)) {
+                return false;
+            }
+            try {
+                Files.deleteIfExists(filePath);
+            } catch (IOException e) {
+                log.warn("⚠️ 사진 파일 삭제 실패: {}", filePath);
+            }
+            imageVariantGenerator.deleteVariants(fileName);
+            return true;
+        }
+    }
+
+    /**
+     * 파일이 없으면 false
+     */
+    private boolean isRecentlyStored(Path filePath, Duration within) {
+        try {
+            Instant modified = Files.getLastModifiedTime(filePath).toInstant();
+            return modified.isAfter(Instant.now().minus(within));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Object lockFor(String fileName) {
+        return fileLocks[Math.floorMod(fileName.hashCode(), LOCK_STRIPES)];
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 원본 파일명의 확장자 (영문/숫자만, 없으면 빈 문자열)
+     */
+    private String extension(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        if (dot < 0 || dot == originalFilename.length() - 1) {
+            return "";
+        }
+        String ext = originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return ext.length() <= 10 && ext.chars().allMatch(c -> (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'))
+                ? "." + ext
+                : "";
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 임시 파일은 다음 업로드와 무관
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- 산별 일자별 등산 기록 수 (인기 산 순위를 record_hikings 윈도우 집계 대신 일자 버킷 합으로 계산)
+CREATE TABLE IF NOT EXISTS mountain_day_counts (
+    mountain_id   BIGINT       NOT NULL,
+    record_date   DATE         NOT NULL,
+    mountain_name VARCHAR(100) NULL,
+    record_count  INT          NOT NULL DEFAULT 0,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (mountain_id, record_date),
+    INDEX idx_mountain_day_counts_date (record_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 버킷 보정 시 사용하는 집계 인덱스
+CREATE INDEX idx_record_hikings_date_mountain ON record_hikings (record_date, mountain_id);
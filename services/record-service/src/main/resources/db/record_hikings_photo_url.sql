@@ -0,0 +1,2 @@
+-- 사진 파일 공유(SHA-256 파일명) - 기록 삭제 시 같은 사진을 쓰는 다른 기록 확인용
+CREATE INDEX idx_record_hikings_photo_url ON record_hikings (photo_url);
@@ -0,0 +1,6 @@
+-- 참조가 끊긴(기록 삭제/사진 교체) 사진 후보 - RecordPhotoSweeper 가 유예 시간 뒤 참조를 다시 확인하고 파일 삭제
+CREATE TABLE IF NOT EXISTS record_photo_tombstones (
+    photo_url  VARCHAR(255) NOT NULL PRIMARY KEY,
+    created_at DATETIME(6)  NOT NULL,
+    INDEX idx_record_photo_tombstones_created (created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,11 @@
+-- 사용자별 등산 기록 수 (랭킹을 record_hikings 전체 GROUP BY 대신 PK 테이블로 계산)
+CREATE TABLE IF NOT EXISTS user_record_counts (
+    user_id      BIGINT      NOT NULL PRIMARY KEY,
+    record_count INT         NOT NULL DEFAULT 0,
+    -- 변경마다 1 증가 (메모리 랭킹이 재적재 스냅샷과 커밋 후 이벤트 중 최신 값을 고르는 기준)
+    version      BIGINT      NOT NULL DEFAULT 0,
+    updated_at   DATETIME(6) NOT NULL
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 카운터 보정 시 사용하는 집계 인덱스
+CREATE INDEX idx_record_hikings_user ON record_hikings (user_id);
@@ -0,0 +1,188 @@
+package com.deungsanlog.record.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageCodecTest {
+
+    private static final byte[] SECRET = "GPS-37.5665-126.9780".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void exifOrientation_bigEndian() {
+        assertThat(ImageCodec.exifOrientation(ImageCodec.orientationOnlyExif(6))).isEqualTo(6);
+    }
+
+    @Test
+    void exifOrientation_littleEndianAfterOtherTags() {
+        assertThat(ImageCodec.exifOrientation(littleEndianExif(8))).isEqualTo(8);
+    }
+
+    @Test
+    void exifOrientation_notExifOrBroken() {
+        byte[] xmp = "http://ns.adobe.com/xap/1.0/\0<x:xmpmeta/>".getBytes(StandardCharsets.US_ASCII);
+        assertThat(ImageCodec.exifOrientation(xmp)).isEqualTo(1);
+        assertThat(ImageCodec.exifOrientation(new byte[]{'E', 'x', 'i', 'f', 0, 0, 'M', 'M'})).isEqualTo(1);
+
+        byte[] truncated = littleEndianExif(6);
+        byte[] cut = new byte[20];
+        System.arraycopy(truncated, 0, cut, 0, cut.length);
+        assertThat(ImageCodec.exifOrientation(cut)).isEqualTo(1);
+
+        byte[] farOffset = ImageCodec.orientationOnlyExif(6);
+        farOffset[10] = (byte) 0xFF; // IFD0 위치가 파일 밖 (음수로 읽히는 값 포함)
+        assertThat(ImageCodec.exifOrientation(farOffset)).isEqualTo(1);
+
+        assertThat(ImageCodec.exifOrientation(ImageCodec.orientationOnlyExif(9))).isEqualTo(1);
+    }
+
+    @Test
+    void stripMetadata_jpegKeepsOnlyOrientation() throws IOException {
+        byte[] jpeg = withSegments(jpeg(4, 2),
+                segment(0xE1, littleEndianExif(6)),
+                segment(0xFE, SECRET));
+
+        byte[] stripped = strip(jpeg);
+
+        assertThat(indexOf(stripped, SECRET)).isEqualTo(-1);
+        assertThat(indexOf(stripped, ImageCodec.orientationOnlyExif(6))).isPositive();
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stripped));
+        assertThat(decoded.getWidth()).isEqualTo(4);
+        assertThat(decoded.getHeight()).isEqualTo(2);
+
+        // 남긴 방향 태그로 읽을 때 회전
+        Path file = dir.resolve("photo.jpg");
+        Files.write(file, stripped);
+        BufferedImage oriented = ImageCodec.read(file, 1280);
+        assertThat(oriented.getWidth()).isEqualTo(2);
+        assertThat(oriented.getHeight()).isEqualTo(4);
+    }
+
+    @Test
+    void stripMetadata_jpegWithoutOrientationDropsExif() throws IOException {
+        byte[] jpeg = withSegments(jpeg(3, 3), segment(0xE1, littleEndianExif(1)));
+
+        byte[] stripped = strip(jpeg);
+
+        assertThat(indexOf(stripped, SECRET)).isEqualTo(-1);
+        assertThat(indexOf(stripped, new byte[]{'E', 'x', 'i', 'f', 0, 0})).isEqualTo(-1);
+        assertThat(ImageIO.read(new ByteArrayInputStream(stripped)).getWidth()).isEqualTo(3);
+    }
+
+    @Test
+    void stripMetadata_pngDropsTextChunks() throws IOException {
+        BufferedImage image = new BufferedImage(5, 4, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        byte[] png = out.toByteArray();
+
+        // 시그니처(8) + IHDR(25) 뒤에 tEXt 청크 삽입
+        ByteArrayOutputStream withText = new ByteArrayOutputStream();
+        withText.write(png, 0, 33);
+        withText.write(pngChunk("tEXt", SECRET));
+        withText.write(png, 33, png.length - 33);
+
+        byte[] stripped = strip(withText.toByteArray());
+
+        assertThat(indexOf(stripped, SECRET)).isEqualTo(-1);
+        assertThat(stripped).isEqualTo(png);
+    }
+
+    @Test
+    void stripMetadata_otherFormatsCopiedAsIs() throws IOException {
+        byte[] gif = "GIF89a-not-really".getBytes(StandardCharsets.US_ASCII);
+        assertThat(strip(gif)).isEqualTo(gif);
+        assertThat(strip(new byte[0])).isEmpty();
+    }
+
+    private static byte[] strip(byte[] source) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageCodec.stripMetadata(new ByteArrayInputStream(source), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 리틀엔디언 Exif - GPS IFD 포인터(0x8825) 뒤에 Orientation, IFD 뒤에 위치 정보 흉내
+     */
+    private static byte[] littleEndianExif(int orientation) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0, 'I', 'I', 0x2A, 0, 8, 0, 0, 0});
+        out.writeBytes(new byte[]{2, 0});
+        out.writeBytes(new byte[]{0x25, (byte) 0x88, 4, 0, 1, 0, 0, 0, 38, 0, 0, 0});
+        out.writeBytes(new byte[]{0x12, 0x01, 3, 0, 1, 0, 0, 0, (byte) orientation, 0, 0, 0});
+        out.writeBytes(new byte[]{0, 0, 0, 0});
+        out.writeBytes(SECRET);
+        return out.toByteArray();
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * JFIF APP0 바로 뒤에 세그먼트 삽입 (ImageIO 는 APP0 가 SOI 바로 뒤에 있어야 읽음)
+     */
+    private static byte[] withSegments(byte[] jpeg, byte[]... segments) {
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, app0End);
+        for (byte[] segment : segments) {
+            out.writeBytes(segment);
+        }
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    private static byte[] segment(int marker, byte[] payload) {
+        int length = payload.length + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) marker, (byte) (length >> 8), (byte) length});
+        out.writeBytes(payload);
+        return out.toByteArray();
+    }
+
+    private static byte[] pngChunk(String type, byte[] data) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        long value = crc.getValue();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int length = data.length;
+        out.writeBytes(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        out.writeBytes(typeBytes);
+        out.writeBytes(data);
+        out.writeBytes(new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value});
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i + needle.length <= haystack.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,149 @@
+package com.deungsanlog.record.service;
+
+import com.deungsanlog.record.event.RecordCountChangedEvent;
+import com.deungsanlog.record.repository.UserRecordCountRepository;
+import com.deungsanlog.record.repository.UserRecordCountRepository.Count;
+import com.deungsanlog.record.service.RecordLeaderboard.Board;
+import com.deungsanlog.record.service.RecordLeaderboard.Ranker;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordLeaderboardTest {
+
+    @Test
+    void ties_shareRankAndSkipNext() {
+        Board board = new Board(Map.of(
+                1L, new Count(5, 1),
+                2L, new Count(5, 1),
+                3L, new Count(3, 1),
+                4L, new Count(1, 1)));
+
+        assertThat(board.top(10)).containsExactly(
+                new Ranker(1, 1L, 5),
+                new Ranker(1, 2L, 5),
+                new Ranker(3, 3L, 3),
+                new Ranker(4, 4L, 1));
+        assertThat(board.ranker(2L)).isEqualTo(new Ranker(1, 2L, 5));
+        assertThat(board.ranker(3L)).isEqualTo(new Ranker(3, 3L, 3));
+        assertThat(board.ranker(99L)).isNull();
+        assertThat(board.ranker(null)).isNull();
+    }
+
+    @Test
+    void top_includesEveryTieAtMaxRank() {
+        Map<Long, Count> initial = new HashMap<>();
+        for (long userId = 1; userId <= 9; userId++) {
+            initial.put(userId, new Count(100 - (int) userId, 1));
+        }
+        // 10등 동점 3명 + 13등 1명
+        initial.put(10L, new Count(50, 1));
+        initial.put(11L, new Count(50, 1));
+        initial.put(12L, new Count(50, 1));
+        initial.put(13L, new Count(40, 1));
+        Board board = new Board(initial);
+
+        List<Ranker> top = board.top(10);
+
+        assertThat(top).hasSize(12);
+        assertThat(top.subList(9, 12)).extracting(Ranker::rank).containsOnly(10);
+        assertThat(top).extracting(Ranker::userId).doesNotContain(13L);
+        assertThat(board.ranker(13L).rank()).isEqualTo(13);
+    }
+
+    @Test
+    void countBeyondCapacity_growsTree() {
+        Board board = new Board(Map.of(1L, new Count(3, 1), 2L, new Count(10, 1)));
+
+        board.apply(3L, new Count(1000, 1));
+        board.apply(1L, new Count(17, 2));
+
+        assertThat(board.ranker(3L)).isEqualTo(new Ranker(1, 3L, 1000));
+        assertThat(board.ranker(1L)).isEqualTo(new Ranker(2, 1L, 17));
+        assertThat(board.ranker(2L)).isEqualTo(new Ranker(3, 2L, 10));
+        assertThat(board.userCount()).isEqualTo(3);
+    }
+
+    @Test
+    void countToZero_removesUser() {
+        Board board = new Board(Map.of(1L, new Count(2, 1), 2L, new Count(1, 1)));
+
+        board.apply(1L, new Count(0, 2));
+
+        assertThat(board.ranker(1L)).isNull();
+        assertThat(board.ranker(2L)).isEqualTo(new Ranker(1, 2L, 1));
+        assertThat(board.top(10)).containsExactly(new Ranker(1, 2L, 1));
+        assertThat(board.userCount()).isEqualTo(1);
+
+        // 0 이 된 뒤 다시 생기면 새 버전으로 반영
+        board.apply(1L, new Count(1, 3));
+        assertThat(board.top(10)).extracting(Ranker::rank).containsExactly(1, 1);
+    }
+
+    @Test
+    void olderVersion_ignored() {
+        Board board = new Board(Map.of(1L, new Count(5, 3), 2L, new Count(4, 1)));
+
+        board.apply(1L, new Count(1, 2));
+        board.apply(1L, new Count(9, 3));
+
+        assertThat(board.ranker(1L)).isEqualTo(new Ranker(1, 1L, 5));
+
+        // 0 이 된 사용자도 버전을 기억 → 늦게 온 이전 값으로 되살아나지 않음
+        board.apply(2L, new Count(0, 2));
+        board.apply(2L, new Count(4, 1));
+        assertThat(board.ranker(2L)).isNull();
+    }
+
+    @Test
+    void reload_reappliesEventsArrivingDuringLoad() {
+        SnapshotRepository repository = new SnapshotRepository();
+        RecordLeaderboard leaderboard = new RecordLeaderboard(repository);
+
+        // 스냅샷 조회 도중 커밋된 변경: 스냅샷보다 새 버전(1번)과 스냅샷에 이미 있는 버전(2번)
+        repository.snapshot = Map.of(1L, new Count(2, 4), 2L, new Count(7, 6));
+        repository.duringLoad = () -> {
+            leaderboard.onRecordCountChanged(new RecordCountChangedEvent(1L, 3, 5));
+            leaderboard.onRecordCountChanged(new RecordCountChangedEvent(2L, 6, 5));
+            leaderboard.onRecordCountChanged(new RecordCountChangedEvent(3L, 1, 1));
+        };
+
+        leaderboard.reload();
+
+        assertThat(leaderboard.getRanker(1L)).isEqualTo(new Ranker(2, 1L, 3));
+        assertThat(leaderboard.getRanker(2L)).isEqualTo(new Ranker(1, 2L, 7));
+        assertThat(leaderboard.getRanker(3L)).isEqualTo(new Ranker(3, 3L, 1));
+
+        // 다음 재적재는 그 이전 이벤트를 다시 적용하지 않음
+        repository.snapshot = Map.of(1L, new Count(0, 6), 2L, new Count(7, 6), 3L, new Count(1, 1));
+        repository.duringLoad = () -> {
+        };
+        leaderboard.reload();
+
+        assertThat(leaderboard.getRanker(1L)).isNull();
+        assertThat(leaderboard.getTopRankers(10)).containsExactly(new Ranker(1, 2L, 7), new Ranker(2, 3L, 1));
+    }
+
+    /**
+     * findAll 도중 이벤트를 끼워 넣는 저장소 (DB 없이)
+     */
+    private static final class SnapshotRepository extends UserRecordCountRepository {
+        private Map<Long, Count> snapshot = Map.of();
+        private Runnable duringLoad = () -> {
+        };
+
+        private SnapshotRepository() {
+            super(null);
+        }
+
+        @Override
+        public Map<Long, Count> findAll() {
+            duringLoad.run();
+            return snapshot;
+        }
+    }
+}
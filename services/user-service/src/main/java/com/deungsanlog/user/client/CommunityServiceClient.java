@@ -0,0 +1,15 @@
+package com.deungsanlog.user.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "community-service")
+public interface CommunityServiceClient {
+
+    /**
+     * 닉네임 변경 시 community-service 닉네임 캐시 무효화 (서비스 간 전용 경로 - 게이트웨이에서 차단)
+     */
+    @DeleteMapping("/internal/communities/users/{userId}/nickname-cache")
+    void evictNickname(@PathVariable("userId") Long userId);
+}
@@ -0,0 +1,30 @@
+package com.deungsanlog.user.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class UserExecutorConfig {
+
+    /**
+     * 닉네임 변경 후 다른 서비스 캐시 무효화 호출용 스레드 풀
+     * 프로필 저장 요청 스레드가 원격 호출을 기다리지 않도록 분리, 큐가 차면 거절 (캐시 TTL 이 지나면 반영됨)
+     */
+    @Bean(name = "nicknameCacheEvictExecutor")
+    public ThreadPoolTaskExecutor nicknameCacheEvictExecutor(
+            @Value("${user.nickname-cache-evict.threads:2}") int threads,
+            @Value("${user.nickname-cache-evict.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("nickname-evict-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
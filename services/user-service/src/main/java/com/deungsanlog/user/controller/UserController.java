@@ -6,6 +6,7 @@ import com.deungsanlog.user.dto.UserUpdateRequest;
 import com.deungsanlog.user.entity.User;
 import com.deungsanlog.user.repository.UserRepository;
 import com.deungsanlog.user.service.FavoriteService;
+import com.deungsanlog.user.service.ProfileImageProcessor;
 import com.deungsanlog.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,9 +15,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -33,6 +36,8 @@ public class UserController {
     // 🆕 즐겨찾기 서비스 추가
     private final FavoriteService favoriteService;
 
+    private final ProfileImageProcessor profileImageProcessor;
+
     /**
      * 서비스 상태 확인 (Gateway에서 호출)
      */
@@ -129,7 +134,8 @@ public class UserController {
             }
 
             // 🔧 파일 저장 경로 수정 (실제 폴더 구조에 맞춤)
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
+            // 원본 대신 다시 인코딩한 JPEG 만 저장 (EXIF 위치 정보 제거) → 확장자는 항상 .jpg
+            String fileName = UUID.randomUUID() + ".jpg";
             String uploadDir = System.getProperty("user.dir") + "/services/user-service/uploads/profiles";// ✅ 경로 수정!
             Path uploadPath = Paths.get(uploadDir);
 
@@ -140,7 +146,12 @@ public class UserController {
             }
 
             Path filePath = uploadPath.resolve(fileName);
-            Files.copy(file.getInputStream(), filePath);
+            try (InputStream input = file.getInputStream()) {
+                if (!profileImageProcessor.writeProfileImage(input, filePath)) {
+                    return ResponseEntity.badRequest()
+                            .body(Map.of("error", "지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, BMP)"));
+                }
+            }
 
             // 🔧 이미지 URL 수정 (User Service 직접 접근)
             String imageUrl = "http://localhost:8081/uploads/profiles/" + fileName; // ✅ URL 수정!
@@ -231,6 +242,22 @@ public class UserController {
                 .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
         return ResponseEntity.ok(user.getNickname());
     }
+
+    /**
+     * 닉네임 일괄 조회 (Community Service 목록 화면에서 사용)
+     * GET /api/users/nicknames?ids=1,2,3
+     */
+    @GetMapping("/nicknames")
+    public ResponseEntity<Map<Long, String>> getNicknames(@RequestParam("ids") List<Long> ids) {
+        log.debug("닉네임 일괄 조회 요청: count={}", ids.size());
+
+        try {
+            return ResponseEntity.ok(userService.getNicknames(ids));
+        } catch (Exception e) {
+            log.error("닉네임 일괄 조회 실패: error={}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
     /**
      * ========== 🔔 FCM 토큰 관리 API (NotificationService용) ==========
      */
@@ -261,6 +288,27 @@ public class UserController {
         }
     }
 
+    /**
+     * FCM 토큰 일괄 조회 (NotificationService 다중 알림에서 호출)
+     * 토큰이 없는 사용자는 결과 맵에서 제외
+     */
+    @PostMapping("/internal/fcm-tokens:batch")
+    public ResponseEntity<Map<Long, String>> getFcmTokens(@RequestBody List<Long> userIds) {
+        log.info("FCM 토큰 일괄 조회 요청: count={}", userIds.size());
+
+        if (userIds.isEmpty()) {
+            return ResponseEntity.ok(Map.of());
+        }
+
+        Map<Long, String> tokens = new HashMap<>();
+        for (Object[] row : userRepository.findFcmTokensByIdIn(userIds)) {
+            tokens.put((Long) row[0], (String) row[1]);
+        }
+
+        log.info("FCM 토큰 일괄 조회 완료: requested={}, found={}", userIds.size(), tokens.size());
+        return ResponseEntity.ok(tokens);
+    }
+
     /**
      * FCM 토큰 저장/업데이트 (NotificationService에서 호출)
      */
@@ -0,0 +1,14 @@
+package com.deungsanlog.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 닉네임 변경 이벤트 (트랜잭션 커밋 후 다른 서비스의 닉네임 캐시 무효화용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NicknameChangedEvent {
+    private final Long userId;
+    private final String nickname;
+}
@@ -0,0 +1,49 @@
+package com.deungsanlog.user.event;
+
+import com.deungsanlog.user.client.CommunityServiceClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@Component
+@Slf4j
+public class NicknameChangedEventListener {
+
+    private final CommunityServiceClient communityServiceClient;
+    private final ThreadPoolTaskExecutor nicknameCacheEvictExecutor;
+
+    public NicknameChangedEventListener(CommunityServiceClient communityServiceClient,
+                                        @Qualifier("nicknameCacheEvictExecutor") ThreadPoolTaskExecutor nicknameCacheEvictExecutor) {
+        this.communityServiceClient = communityServiceClient;
+        this.nicknameCacheEvictExecutor = nicknameCacheEvictExecutor;
+    }
+
+    /**
+     * 커밋 이후에만 캐시를 비워야 다른 서비스가 이전 닉네임을 다시 캐싱하지 않음
+     * 원격 호출은 별도 스레드 풀에서 실행 → community-service 가 느려도 프로필 저장 응답은 지연되지 않음
+     */
+    @TransactionalEventListener
+    public void onNicknameChanged(NicknameChangedEvent event) {
+        Long userId = event.getUserId();
+        try {
+            nicknameCacheEvictExecutor.execute(() -> evict(userId));
+        } catch (RejectedExecutionException e) {
+            // 무효화 실패 시에도 캐시 TTL이 지나면 새 닉네임이 반영됨
+            log.warn("커뮤니티 닉네임 캐시 무효화 건너뜀 (대기열 가득 참): userId={}", userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        try {
+            communityServiceClient.evictNickname(userId);
+            log.info("커뮤니티 닉네임 캐시 무효화 완료: userId={}", userId);
+        } catch (Exception e) {
+            // 무효화 실패 시에도 캐시 TTL이 지나면 새 닉네임이 반영됨
+            log.warn("커뮤니티 닉네임 캐시 무효화 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+}
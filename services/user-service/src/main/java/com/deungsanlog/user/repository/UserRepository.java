@@ -2,8 +2,12 @@ package com.deungsanlog.user.repository;
 
 import com.deungsanlog.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,4 +33,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 제공자와 제공자 ID 존재 여부 확인
      */
     boolean existsByProviderAndProviderId(String provider, String providerId);
+
+    /**
+     * 여러 사용자의 FCM 토큰 일괄 조회 (토큰이 있는 사용자만, [id, fcmToken])
+     */
+    @Query("SELECT u.id, u.fcmToken FROM User u WHERE u.id IN :userIds AND u.fcmToken IS NOT NULL AND u.fcmToken <> ''")
+    List<Object[]> findFcmTokensByIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.deungsanlog.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 프로필 이미지 재인코딩 (너비 최대 512 JPEG)
+ * - 업로드 원본은 저장하지 않고 다시 인코딩한 JPEG 만 저장 → EXIF(위치 정보 등) 제거, 방향(Orientation)만 픽셀에 반영
+ * - 프로필 이미지는 한 장이고 작게 줄이므로 업로드 요청 안에서 바로 처리 (원본이 잠시라도 서빙되지 않도록)
+ */
+@Slf4j
+@Component
+public class ProfileImageProcessor {
+
+    private static final int MAX_WIDTH = 512;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * 이미지를 읽어 target 에 JPEG 로 저장 - 읽을 수 없는 형식이면 false (아무것도 저장하지 않음)
+     */
+    public boolean writeProfileImage(InputStream source, Path target) throws IOException {
+        BufferedImage image = ImageCodec.read(source, MAX_WIDTH);
+        if (image == null) {
+            return false;
+        }
+        ImageCodec.writeJpeg(ImageCodec.scaleToWidth(image, MAX_WIDTH), target, JPEG_QUALITY);
+        return true;
+    }
+}
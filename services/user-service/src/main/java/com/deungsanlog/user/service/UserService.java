@@ -4,13 +4,18 @@ import com.deungsanlog.user.dto.UserCreateRequest;
 import com.deungsanlog.user.dto.UserResponse;
 import com.deungsanlog.user.dto.UserUpdateRequest;
 import com.deungsanlog.user.entity.User;
+import com.deungsanlog.user.event.NicknameChangedEvent;
 import com.deungsanlog.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +24,7 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * OAuth2 로그인 시 사용자 저장/업데이트
@@ -81,6 +87,10 @@ public class UserService {
             String oldNickname = user.getNickname();
             user.setNickname(request.getNickname().trim());
             log.info("닉네임 변경: {} → {}", oldNickname, user.getNickname());
+
+            if (!user.getNickname().equals(oldNickname)) {
+                eventPublisher.publishEvent(new NicknameChangedEvent(userId, user.getNickname()));
+            }
         }
 
         // 프로필 이미지 URL 수정
@@ -97,6 +107,17 @@ public class UserService {
         return convertToUserResponse(updatedUser);
     }
 
+    /**
+     * 여러 사용자의 닉네임 일괄 조회 (존재하지 않는 ID는 결과에서 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getNicknames(Collection<Long> userIds) {
+        log.debug("닉네임 일괄 조회: count={}", userIds.size());
+
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+    }
+
     /**
      * 이메일로 조회
      */
@@ -0,0 +1,121 @@
+package com.deungsanlog.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageCodecTest {
+
+    @Test
+    void exifOrientation_bothByteOrders() {
+        assertThat(ImageCodec.exifOrientation(exif(false, 6))).isEqualTo(6);
+        assertThat(ImageCodec.exifOrientation(exif(true, 8))).isEqualTo(8);
+        assertThat(ImageCodec.exifOrientation(exif(true, 3))).isEqualTo(3);
+    }
+
+    @Test
+    void exifOrientation_notExifOrBroken() {
+        byte[] xmp = "http://ns.adobe.com/xap/1.0/\0<x:xmpmeta/>".getBytes(StandardCharsets.US_ASCII);
+        assertThat(ImageCodec.exifOrientation(xmp)).isEqualTo(1);
+        assertThat(ImageCodec.exifOrientation(new byte[]{'E', 'x', 'i', 'f', 0, 0, 'M', 'M'})).isEqualTo(1);
+
+        byte[] cut = new byte[20];
+        System.arraycopy(exif(true, 6), 0, cut, 0, cut.length);
+        assertThat(ImageCodec.exifOrientation(cut)).isEqualTo(1);
+
+        byte[] farOffset = exif(false, 6);
+        farOffset[10] = (byte) 0xFF; // IFD0 위치가 파일 밖 (음수로 읽히는 값 포함)
+        assertThat(ImageCodec.exifOrientation(farOffset)).isEqualTo(1);
+
+        assertThat(ImageCodec.exifOrientation(exif(false, 9))).isEqualTo(1);
+    }
+
+    @Test
+    void read_appliesOrientation() throws IOException {
+        byte[] jpeg = withApp1(jpeg(4, 2), exif(true, 6));
+
+        BufferedImage image = ImageCodec.read(new ByteArrayInputStream(jpeg), 512);
+
+        assertThat(image.getWidth()).isEqualTo(2);
+        assertThat(image.getHeight()).isEqualTo(4);
+    }
+
+    @Test
+    void orient_movesPixels() {
+        BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, 0xFF0000);
+        image.setRGB(1, 0, 0x00FF00);
+
+        BufferedImage clockwise = ImageCodec.orient(image, 6);
+        assertThat(clockwise.getRGB(0, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(clockwise.getRGB(0, 1) & 0xFFFFFF).isEqualTo(0x00FF00);
+
+        BufferedImage mirrored = ImageCodec.orient(image, 2);
+        assertThat(mirrored.getRGB(0, 0) & 0xFFFFFF).isEqualTo(0x00FF00);
+        assertThat(mirrored.getRGB(1, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+    }
+
+    @Test
+    void read_unsupportedFormat() throws IOException {
+        byte[] text = "not an image".getBytes(StandardCharsets.US_ASCII);
+        assertThat(ImageCodec.read(new ByteArrayInputStream(text), 512)).isNull();
+    }
+
+    /**
+     * IFD0 에 다른 태그 하나 + Orientation
+     */
+    private static byte[] exif(boolean littleEndian, int orientation) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(littleEndian ? new byte[]{'I', 'I', 0x2A, 0, 8, 0, 0, 0} : new byte[]{'M', 'M', 0, 0x2A, 0, 0, 0, 8});
+        out.writeBytes(shortBytes(2, littleEndian));
+        out.writeBytes(entry(0x010F, 2, 0, littleEndian)); // Make
+        out.writeBytes(entry(0x0112, 3, orientation, littleEndian));
+        out.writeBytes(new byte[]{0, 0, 0, 0});
+        return out.toByteArray();
+    }
+
+    private static byte[] entry(int tag, int type, int value, boolean littleEndian) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(shortBytes(tag, littleEndian));
+        out.writeBytes(shortBytes(type, littleEndian));
+        out.writeBytes(littleEndian ? new byte[]{1, 0, 0, 0} : new byte[]{0, 0, 0, 1});
+        out.writeBytes(shortBytes(value, littleEndian));
+        out.writeBytes(new byte[]{0, 0});
+        return out.toByteArray();
+    }
+
+    private static byte[] shortBytes(int value, boolean littleEndian) {
+        return littleEndian
+                ? new byte[]{(byte) value, (byte) (value >> 8)}
+                : new byte[]{(byte) (value >> 8), (byte) value};
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * JFIF APP0 바로 뒤에 APP1 삽입 (ImageIO 는 APP0 가 SOI 바로 뒤에 있어야 읽음)
+     */
+    private static byte[] withApp1(byte[] jpeg, byte[] payload) {
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        int length = payload.length + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, app0End);
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.writeBytes(payload);
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+}